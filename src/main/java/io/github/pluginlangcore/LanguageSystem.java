@@ -1,13 +1,19 @@
 package io.github.pluginlangcore;
 
+import io.github.pluginlangcore.language.LanguageFileWatcher;
 import io.github.pluginlangcore.language.LanguageManager;
 import io.github.pluginlangcore.language.MessageService;
+import io.github.pluginlangcore.language.PlayerLocaleListener;
 import io.github.pluginlangcore.updater.LanguageUpdater;
 import lombok.Getter;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Unified language system that manages both {@link LanguageUpdater} and {@link LanguageManager}.
@@ -40,6 +46,14 @@ import java.util.List;
  *     .build();
  * }</pre>
  * <p>
+ * <b>Per-player Languages:</b>
+ * <pre>{@code
+ * LanguageSystem langSystem = LanguageSystem.builder(plugin)
+ *     .supportedLanguages("en_US", "vi_VN", "de_DE")
+ *     .perPlayerLocales(true) // Each player gets the language of their client
+ *     .build();
+ * }</pre>
+ * <p>
  * <b>Advanced Setup:</b>
  * <pre>{@code
  * LanguageSystem langSystem = LanguageSystem.builder(plugin)
@@ -66,6 +80,8 @@ public class LanguageSystem {
 
     private final LanguageUpdater languageUpdater;
 
+    private final LanguageFileWatcher languageFileWatcher;
+
     /**
      * File type enum that can be used with the builder.
      */
@@ -121,7 +137,9 @@ public class LanguageSystem {
     }
 
     private LanguageSystem(JavaPlugin plugin, List<String> supportedLanguages,
-                          LanguageFileType[] fileTypes, boolean autoUpdate) {
+                          Map<String, List<String>> fallbackChains, Duration localeIdleTimeout,
+                          boolean mappedStorage, boolean precompiledColors, boolean perPlayerLocales,
+                          Duration watchDebounce, LanguageFileType[] fileTypes, boolean autoUpdate) {
         // Convert to manager and updater types
         LanguageManager.LanguageFileType[] managerTypes = Arrays.stream(fileTypes)
                 .map(LanguageFileType::toManagerType)
@@ -138,11 +156,33 @@ public class LanguageSystem {
             this.languageUpdater = null;
         }
 
-        // Initialize language manager
-        this.languageManager = new LanguageManager(plugin, managerTypes);
+        // Initialize language manager; the supported languages are only served with per-player locales
+        LanguageManager.Options options = LanguageManager.options()
+                .locales(perPlayerLocales ? supportedLanguages : List.of())
+                .loadLocalesOnDemand(localeIdleTimeout)
+                .mappedLocaleStorage(mappedStorage)
+                .precompiledColors(precompiledColors)
+                .perPlayerLocales(perPlayerLocales)
+                .fileTypes(managerTypes);
+        fallbackChains.forEach(options::fallbackChain);
+        this.languageManager = new LanguageManager(plugin, options);
+
+        // Keep per-player locales in sync with the players' client settings
+        if (perPlayerLocales) {
+            plugin.getServer().getPluginManager().registerEvents(new PlayerLocaleListener(languageManager), plugin);
+        }
 
         // Initialize message service
         this.messageService = new MessageService(plugin, languageManager);
+
+        // Reload edited language files without a reload command
+        if (watchDebounce != null) {
+            this.languageFileWatcher = new LanguageFileWatcher(plugin, watchDebounce,
+                    languageManager::reloadFilesAsync);
+            languageFileWatcher.start();
+        } else {
+            this.languageFileWatcher = null;
+        }
     }
 
     /**
@@ -156,11 +196,41 @@ public class LanguageSystem {
     }
 
     /**
-     * Reloads all language files and clears caches.
+     * Reloads all language files.
+     * <p>
+     * Cached results of text that did not change are kept.
+     * </p>
      */
     public void reload() {
         languageManager.reloadLanguages();
-        messageService.clearKeyExistsCache();
+    }
+
+    /**
+     * Reloads all language files off the main thread.
+     * <p>
+     * All file I/O and parsing run asynchronously; the new language data is
+     * published on the main thread, where the returned future completes.
+     * Messages sent in the meantime use the previous language data.
+     * </p>
+     *
+     * <pre>{@code
+     * langSystem.reloadAsync().thenRun(() -> sender.sendMessage("Languages reloaded"));
+     * }</pre>
+     *
+     * @return A future completed on the main thread once the reload is published
+     */
+    public CompletableFuture<Void> reloadAsync() {
+        return languageManager.reloadLanguagesAsync();
+    }
+
+    /**
+     * Stops background work of the language system, such as watching language files.
+     * Call this from {@code onDisable()}.
+     */
+    public void shutdown() {
+        if (languageFileWatcher != null) {
+            languageFileWatcher.close();
+        }
     }
 
     /**
@@ -169,8 +239,14 @@ public class LanguageSystem {
     public static class Builder {
         private final JavaPlugin plugin;
         private List<String> supportedLanguages;
+        private final Map<String, List<String>> fallbackChains = new LinkedHashMap<>();
         private LanguageFileType[] fileTypes;
         private boolean autoUpdate = true;
+        private Duration localeIdleTimeout;
+        private boolean mappedStorage;
+        private boolean precompiledColors;
+        private boolean perPlayerLocales;
+        private Duration watchDebounce;
 
         private Builder(JavaPlugin plugin) {
             this.plugin = plugin;
@@ -217,6 +293,115 @@ public class LanguageSystem {
             return this;
         }
 
+        /**
+         * Sets the fallback chain of a locale.
+         * <p>
+         * Keys missing in {@code locale} are taken from the fallback locales in the
+         * given order, and finally from the default locale. The chain is resolved
+         * once per load, so lookups stay a single probe.
+         * </p>
+         * <pre>{@code
+         * LanguageSystem.builder(plugin)
+         *     .supportedLanguages("en_US", "pt_BR", "pt_PT")
+         *     .fallbackChain("pt_BR", "pt_PT") // pt_BR -> pt_PT -> en_US
+         *     .build();
+         * }</pre>
+         *
+         * @param locale    The locale code (e.g., "pt_BR")
+         * @param fallbacks The fallback locale codes, in order of preference
+         * @return This builder instance
+         */
+        public Builder fallbackChain(String locale, String... fallbacks) {
+            this.fallbackChains.put(locale, List.of(fallbacks));
+            return this;
+        }
+
+        /**
+         * Loads the supported languages on demand instead of up front.
+         * Only has an effect together with {@link #perPlayerLocales(boolean)}.
+         * <p>
+         * Only the default locale is loaded at startup. Another language is loaded in
+         * the background when the first player using it needs a message, and is
+         * unloaded again once it has had no players for {@code idleTimeout}.
+         * </p>
+         *
+         * @param idleTimeout How long a language without players stays loaded
+         * @return This builder instance
+         */
+        public Builder loadLocalesOnDemand(Duration idleTimeout) {
+            this.localeIdleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Sets whether to send each player messages in the language of their client.
+         * <p>
+         * The supported languages are loaded, and a player is served the one that best
+         * matches their client language, or the default locale if none matches.
+         * Language changes in the client settings are picked up automatically. When
+         * disabled, every player gets the configured {@code language}, as on a
+         * single-language server. Default is {@code false}.
+         * </p>
+         *
+         * @param perPlayerLocales Whether to resolve the language of each player
+         * @return This builder instance
+         */
+        public Builder perPlayerLocales(boolean perPlayerLocales) {
+            this.perPlayerLocales = perPlayerLocales;
+            return this;
+        }
+
+        /**
+         * Sets whether to store the languages other than the default one off the heap.
+         * <p>
+         * Their values are kept in memory-mapped files under {@code cache/mapped} and
+         * decoded on access, with small on-heap caches of recently used text. Useful
+         * when many languages are offered but most are rarely used. Default is
+         * {@code false}.
+         * </p>
+         *
+         * @param mappedStorage Whether to use memory-mapped storage
+         * @return This builder instance
+         */
+        public Builder mappedLocaleStorage(boolean mappedStorage) {
+            this.mappedStorage = mappedStorage;
+            return this;
+        }
+
+        /**
+         * Sets whether to translate the color codes of language text once at load.
+         * <p>
+         * Rendering a message then only inserts the placeholder values instead of
+         * translating the whole result, so placeholders must not complete a color
+         * code started in the text (such as {@code "&{color}"}). Default is
+         * {@code false}.
+         * </p>
+         *
+         * @param precompiledColors Whether to pre-translate color codes
+         * @return This builder instance
+         */
+        public Builder precompiledColors(boolean precompiledColors) {
+            this.precompiledColors = precompiledColors;
+            return this;
+        }
+
+        /**
+         * Reloads language files automatically when they are edited.
+         * <p>
+         * The {@code language} directory is watched, and once no further edit has
+         * been seen for {@code debounce}, only the edited files are parsed again and
+         * only their locales are recompiled. Call {@link LanguageSystem#shutdown()}
+         * when the plugin is disabled.
+         * </p>
+         *
+         * @param debounce How long files must stay unchanged before they are reloaded
+         * @return This builder instance
+         */
+        public Builder watchLanguageFiles(Duration debounce) {
+            this.watchDebounce = debounce;
+            return this;
+        }
+
         /**
          * Sets which language file types to use.
          * <p>
@@ -256,7 +441,8 @@ public class LanguageSystem {
             if (fileTypes == null || fileTypes.length == 0) {
                 throw new IllegalStateException("At least one file type must be specified");
             }
-            return new LanguageSystem(plugin, supportedLanguages, fileTypes, autoUpdate);
+            return new LanguageSystem(plugin, supportedLanguages, fallbackChains, localeIdleTimeout, mappedStorage,
+                    precompiledColors, perPlayerLocales, watchDebounce, fileTypes, autoUpdate);
         }
     }
 }
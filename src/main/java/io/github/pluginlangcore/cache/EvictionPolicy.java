@@ -0,0 +1,35 @@
+package io.github.pluginlangcore.cache;
+
+/**
+ * Eviction policies supported by {@link LRUCache}.
+ * <p>
+ * The policy decides which entry leaves a cache segment when it is full:
+ * <ul>
+ *   <li><b>LRU</b> - Evicts the least recently used entry. Cheap and predictable, but a
+ *       burst of one-off keys can flush entries that are used constantly.</li>
+ *   <li><b>TINY_LFU</b> - Window TinyLFU. New entries go into a small LRU window. When an
+ *       entry leaves the window, it only replaces the main region's LRU victim if a
+ *       frequency sketch says it has been requested more often. Scan-like traffic stays
+ *       in the window and hot entries survive.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * // Templates rendered thousands of times per second should survive bursts of unique strings
+ * LRUCache<String, String> cache = new LRUCache<>(1000, EvictionPolicy.TINY_LFU);
+ * }</pre>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum EvictionPolicy {
+    /**
+     * Plain least recently used eviction.
+     */
+    LRU,
+
+    /**
+     * Window TinyLFU: LRU window with frequency-based admission into the main region.
+     */
+    TINY_LFU
+}
@@ -0,0 +1,131 @@
+package io.github.pluginlangcore.cache;
+
+/**
+ * A compact Count-Min sketch that estimates how often keys have been accessed.
+ * <p>
+ * Each {@code long} in the table packs sixteen 4-bit counters, and every key is
+ * counted in four of them chosen by independent hash functions. The estimated
+ * frequency is the minimum of those counters, which is never lower than the true
+ * count but may over-estimate on collisions. Counters saturate at 15.
+ * </p>
+ * <p>
+ * Once the number of recorded increments reaches ten times the configured size,
+ * all counters are halved. This aging step lets the sketch forget entries that
+ * used to be popular. The sketch is not thread-safe and is used under the lock of
+ * the owning cache segment.
+ * </p>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a sketch sized for the given number of entries.
+     *
+     * @param maximumSize The number of entries the owning cache may hold
+     */
+    FrequencySketch(int maximumSize) {
+        ensureCapacity(maximumSize);
+    }
+
+    /**
+     * Resizes the sketch for a new maximum size. Existing counts are discarded
+     * when the table size changes.
+     *
+     * @param maximumSize The number of entries the owning cache may hold
+     */
+    void ensureCapacity(int maximumSize) {
+        int size = Math.max(1, maximumSize);
+        int tableSize = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        sampleSize = 10 * size;
+        if (table != null && table.length == tableSize) {
+            return;
+        }
+        table = new long[tableSize];
+        tableMask = tableSize - 1;
+        additions = 0;
+    }
+
+    /**
+     * Returns the estimated number of occurrences of a key, at most 15.
+     *
+     * @param key The key to look up
+     * @return The estimated frequency
+     */
+    int frequency(Object key) {
+        int hash = spread(key);
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one occurrence of a key, aging all counters when the sample
+     * period is reached.
+     *
+     * @param key The key that was accessed
+     */
+    void increment(Object key) {
+        int hash = spread(key);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Halves every counter and the addition count.
+     */
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions = (additions - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h = ((h >>> 16) ^ h) * 0x45d9f3b;
+        h = ((h >>> 16) ^ h) * 0x45d9f3b;
+        return (h >>> 16) ^ h;
+    }
+}
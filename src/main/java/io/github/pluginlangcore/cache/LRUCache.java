@@ -1,14 +1,32 @@
 package io.github.pluginlangcore.cache;
 
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 /**
- * A thread-safe LRU (Least Recently Used) cache implementation.
+ * A thread-safe, lock-striped LRU (Least Recently Used) cache implementation.
  * <p>
- * This cache automatically removes the least recently accessed entries
- * when the cache reaches its maximum capacity. All operations are
- * synchronized to ensure thread safety.
+ * Keys are spread across a fixed number of independently locked segments, each
+ * of which is an access-ordered map with its own share of the total capacity.
+ * Threads working on keys that land in different segments never contend, so
+ * lookups from the main thread and from async tasks no longer serialize on a
+ * single monitor.
+ * </p>
+ * <p>
+ * Eviction is decided within each segment according to the cache's
+ * {@link EvictionPolicy}: plain LRU by default, or Window TinyLFU for caches
+ * whose hot entries must survive bursts of one-off keys. The sum of all segment
+ * capacities always equals {@link #capacity()}, so the cache as a whole never
+ * holds more entries than its configured bound.
+ * </p>
+ * <p>
+ * Every entry is stamped with the generation of the cache it was stored in.
+ * {@link #clear()} only advances the generation, a single atomic increment that
+ * never takes a segment lock; entries of older generations are treated as
+ * missing and are evicted like any other unused entry.
  * </p>
  *
  * @param <K> The type of keys maintained by this cache
@@ -18,26 +36,109 @@ import java.util.Map;
  * @since 1.0.0
  */
 public class LRUCache<K, V> {
-    private final LinkedHashMap<K, V> cache;
-    private int capacity;
+    /**
+     * Smallest share of the capacity a segment should get when the segment
+     * count is chosen automatically. Small caches use fewer segments so that
+     * LRU ordering stays meaningful.
+     */
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    /**
+     * Upper bound on the number of segments.
+     */
+    private static final int MAX_SEGMENTS = 64;
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL =
+            Math.min(MAX_SEGMENTS, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final Segment<K, Stamped<V>>[] segments;
+    private final int segmentMask;
+    private final EvictionPolicy policy;
+    private final AtomicInteger generation = new AtomicInteger();
+    private volatile int capacity;
 
     /**
      * Constructs an LRU cache with the specified capacity.
+     * <p>
+     * The number of segments is derived from the number of available processors
+     * and the capacity.
+     * </p>
      *
      * @param capacity The maximum number of entries in the cache (must be positive)
      * @throws IllegalArgumentException if capacity is not positive
      */
     public LRUCache(int capacity) {
+        this(capacity, DEFAULT_CONCURRENCY_LEVEL, EvictionPolicy.LRU);
+    }
+
+    /**
+     * Constructs a cache with the specified capacity and eviction policy.
+     *
+     * @param capacity The maximum number of entries in the cache (must be positive)
+     * @param policy   The eviction policy to apply within each segment
+     * @throws IllegalArgumentException if capacity is not positive
+     * @throws NullPointerException     if policy is null
+     */
+    public LRUCache(int capacity, EvictionPolicy policy) {
+        this(capacity, DEFAULT_CONCURRENCY_LEVEL, policy);
+    }
+
+    /**
+     * Constructs an LRU cache with the specified capacity and concurrency level.
+     * <p>
+     * The concurrency level is the expected number of threads accessing the cache
+     * at the same time. It is rounded to a power of two and reduced so that every
+     * segment keeps a reasonable share of the capacity.
+     * </p>
+     *
+     * @param capacity         The maximum number of entries in the cache (must be positive)
+     * @param concurrencyLevel The expected number of concurrently accessing threads (must be positive)
+     * @throws IllegalArgumentException if capacity or concurrencyLevel is not positive
+     */
+    public LRUCache(int capacity, int concurrencyLevel) {
+        this(capacity, concurrencyLevel, EvictionPolicy.LRU);
+    }
+
+    /**
+     * Constructs a cache with the specified capacity, concurrency level and eviction policy.
+     *
+     * @param capacity         The maximum number of entries in the cache (must be positive)
+     * @param concurrencyLevel The expected number of concurrently accessing threads (must be positive)
+     * @param policy           The eviction policy to apply within each segment
+     * @throws IllegalArgumentException if capacity or concurrencyLevel is not positive
+     * @throws NullPointerException     if policy is null
+     */
+    @SuppressWarnings("unchecked")
+    public LRUCache(int capacity, int concurrencyLevel, EvictionPolicy policy) {
+        if (policy == null) {
+            throw new NullPointerException("Eviction policy must be non-null");
+        }
         if (capacity <= 0) {
             throw new IllegalArgumentException("Capacity must be positive");
         }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be positive");
+        }
+
+        int segmentCount = 1;
+        int maxSegments = Math.min(Math.min(concurrencyLevel, MAX_SEGMENTS), Math.max(1, capacity / MIN_SEGMENT_CAPACITY));
+        while (segmentCount < maxSegments) {
+            segmentCount <<= 1;
+        }
+        if (segmentCount > maxSegments) {
+            segmentCount >>= 1;
+        }
+
         this.capacity = capacity;
-        this.cache = new LinkedHashMap<K, V>(capacity, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-                return size() > LRUCache.this.capacity;
-            }
-        };
+        this.policy = policy;
+        this.segmentMask = segmentCount - 1;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = segmentCapacity(capacity, i, segmentCount);
+            segments[i] = policy == EvictionPolicy.TINY_LFU
+                    ? new TinyLfuSegment<>(segmentCapacity, entry -> entry.generation() != generation.get())
+                    : new LruSegment<>(segmentCapacity);
+        }
     }
 
     /**
@@ -45,49 +146,81 @@ public class LRUCache<K, V> {
      * or null if no mapping exists for the key.
      * <p>
      * This operation updates the access order, making this entry
-     * the most recently used.
+     * the most recently used within its segment, and counts as an access
+     * for frequency-based admission.
      * </p>
      *
      * @param key The key whose associated value is to be returned
      * @return The value associated with the key, or null if no mapping exists
      */
-    public synchronized V get(K key) {
-        return cache.get(key);
+    public V get(K key) {
+        Segment<K, Stamped<V>> segment = segmentFor(key);
+        Stamped<V> entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+        }
+        return current(entry);
     }
 
     /**
      * Associates the specified value with the specified key in this cache.
      * <p>
      * If the cache previously contained a mapping for this key, the old
-     * value is replaced. If adding this entry causes the cache to exceed
-     * its capacity, the least recently used entry is removed.
+     * value is replaced. If adding this entry causes the key's segment to exceed
+     * its share of the capacity, an entry of that segment is evicted according to
+     * the eviction policy. Under {@link EvictionPolicy#TINY_LFU} that entry may be
+     * the new one itself if it is used less often than the entries it would displace.
      * </p>
      *
      * @param key   The key with which the specified value is to be associated
      * @param value The value to be associated with the specified key
      * @return The previous value associated with the key, or null if no mapping existed
      */
-    public synchronized V put(K key, V value) {
-        return cache.put(key, value);
+    public V put(K key, V value) {
+        Segment<K, Stamped<V>> segment = segmentFor(key);
+        Stamped<V> previous;
+        synchronized (segment) {
+            previous = segment.put(key, new Stamped<>(generation.get(), value));
+        }
+        return current(previous);
     }
 
     /**
      * Removes all entries from the cache.
      * <p>
-     * After this operation, the cache will be empty.
+     * This only advances the cache's generation, so it takes constant time and
+     * never blocks other threads. The invalidated entries are no longer returned
+     * and free their memory as they are evicted or overwritten.
+     * </p>
+     * <p>
+     * Values are stamped with the generation current when they are stored. A value
+     * computed from data older than the clear but stored after it therefore
+     * survives the clear.
      * </p>
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        generation.incrementAndGet();
     }
 
     /**
-     * Returns the number of key-value mappings currently in this cache.
+     * Returns the approximate number of key-value mappings in this cache.
+     * <p>
+     * The count includes entries invalidated by {@link #clear()} that have not been
+     * evicted or overwritten yet, so right after a clear it may still be as high as
+     * before. The result is the sum of all segment sizes and is not an atomic
+     * snapshot while other threads are modifying the cache.
+     * </p>
      *
-     * @return The number of key-value mappings in this cache
+     * @return The number of entries held by this cache, including invalidated ones
      */
-    public synchronized int size() {
-        return cache.size();
+    public int size() {
+        int size = 0;
+        for (Segment<K, Stamped<V>> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
     }
 
     /**
@@ -95,15 +228,24 @@ public class LRUCache<K, V> {
      *
      * @return The maximum number of entries this cache can hold
      */
-    public synchronized int capacity() {
+    public int capacity() {
         return capacity;
     }
 
+    /**
+     * Returns the eviction policy of this cache.
+     *
+     * @return The eviction policy applied within each segment
+     */
+    public EvictionPolicy policy() {
+        return policy;
+    }
+
     /**
      * Resizes the cache capacity.
      * <p>
-     * If the new capacity is smaller than the current number of entries,
-     * the least recently used entries will be removed on the next put operation.
+     * The new capacity is redistributed across all segments. Segments holding
+     * more entries than their new share evict entries immediately, so the global bound holds as soon as this method returns.
      * </p>
      *
      * @param newCapacity The new capacity for the cache (must be positive)
@@ -114,16 +256,32 @@ public class LRUCache<K, V> {
             throw new IllegalArgumentException("New capacity must be positive");
         }
         this.capacity = newCapacity;
+        for (int i = 0; i < segments.length; i++) {
+            Segment<K, Stamped<V>> segment = segments[i];
+            synchronized (segment) {
+                segment.setCapacity(segmentCapacity(newCapacity, i, segments.length));
+            }
+        }
     }
 
     /**
      * Checks if the cache contains a mapping for the specified key.
+     * <p>
+     * This check does not count as an access for frequency-based admission, but
+     * under {@link EvictionPolicy#LRU} it refreshes the entry's position in the
+     * access order.
+     * </p>
      *
      * @param key The key whose presence in this cache is to be tested
      * @return true if this cache contains a mapping for the specified key
      */
-    public synchronized boolean containsKey(K key) {
-        return cache.containsKey(key);
+    public boolean containsKey(K key) {
+        Segment<K, Stamped<V>> segment = segmentFor(key);
+        Stamped<V> entry;
+        synchronized (segment) {
+            entry = segment.peek(key);
+        }
+        return current(entry) != null;
     }
 
     /**
@@ -132,7 +290,287 @@ public class LRUCache<K, V> {
      * @param key The key whose mapping is to be removed from the cache
      * @return The previous value associated with the key, or null if there was no mapping
      */
-    public synchronized V remove(K key) {
-        return cache.remove(key);
+    public V remove(K key) {
+        Segment<K, Stamped<V>> segment = segmentFor(key);
+        Stamped<V> previous;
+        synchronized (segment) {
+            previous = segment.remove(key);
+        }
+        return current(previous);
+    }
+
+    /**
+     * Removes every entry whose key matches a filter.
+     * <p>
+     * Segments are processed one after another, so concurrent writers may add
+     * matching entries to already processed segments while the operation is in
+     * progress. The access order of the remaining entries is not changed.
+     * </p>
+     *
+     * @param filter The filter selecting the keys to remove
+     * @return The number of removed entries
+     */
+    public int removeIf(Predicate<? super K> filter) {
+        int removed = 0;
+        for (Segment<K, Stamped<V>> segment : segments) {
+            synchronized (segment) {
+                removed += segment.removeIf(filter);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Unwraps an entry if it belongs to the current generation.
+     *
+     * @param entry The stored entry, may be null
+     * @return The value, or null if the entry is missing or was invalidated
+     */
+    private V current(Stamped<V> entry) {
+        return entry != null && entry.generation() == generation.get() ? entry.value() : null;
+    }
+
+    /**
+     * Selects the segment responsible for a key.
+     *
+     * @param key The key to locate
+     * @return The segment owning the key
+     */
+    private Segment<K, Stamped<V>> segmentFor(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & segmentMask];
+    }
+
+    /**
+     * Computes the share of the total capacity assigned to a segment.
+     * The remainder is spread over the first segments so that the shares
+     * always add up to exactly the total capacity.
+     *
+     * @param totalCapacity The total cache capacity
+     * @param index         The segment index
+     * @param segmentCount  The number of segments
+     * @return The capacity of the segment
+     */
+    private static int segmentCapacity(int totalCapacity, int index, int segmentCount) {
+        int share = totalCapacity / segmentCount;
+        return index < totalCapacity % segmentCount ? share + 1 : share;
+    }
+
+    /**
+     * A value together with the cache generation it was stored in.
+     */
+    private record Stamped<V>(int generation, V value) {
+    }
+
+    /**
+     * A single independently locked partition of the cache.
+     * All access must be synchronized on the segment itself.
+     */
+    private abstract static class Segment<K, V> {
+        abstract V get(K key);
+
+        /**
+         * Gets a value without counting an access for admission.
+         */
+        abstract V peek(K key);
+
+        abstract V put(K key, V value);
+
+        abstract V remove(K key);
+
+        abstract int removeIf(Predicate<? super K> filter);
+
+        abstract int size();
+
+        abstract void setCapacity(int capacity);
+
+        static <K, V> LinkedHashMap<K, V> accessOrderedMap(int capacity) {
+            return new LinkedHashMap<>(Math.max(16, (int) (capacity / 0.75f) + 1), 0.75f, true);
+        }
+
+        /**
+         * Removes the entries whose key matches a filter from a map.
+         */
+        static <K, V> int removeKeys(LinkedHashMap<K, V> map, Predicate<? super K> filter) {
+            int size = map.size();
+            map.keySet().removeIf(filter);
+            return size - map.size();
+        }
+
+        /**
+         * Evicts least recently used entries until the map fits the given capacity.
+         */
+        static <K, V> void trim(LinkedHashMap<K, V> map, int capacity) {
+            int excess = map.size() - capacity;
+            if (excess <= 0) {
+                return;
+            }
+            Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+            while (excess-- > 0 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Segment with plain LRU eviction.
+     */
+    private static final class LruSegment<K, V> extends Segment<K, V> {
+        private final LinkedHashMap<K, V> map;
+        private int capacity;
+
+        LruSegment(int capacity) {
+            this.capacity = capacity;
+            this.map = accessOrderedMap(capacity);
+        }
+
+        @Override
+        V get(K key) {
+            return map.get(key);
+        }
+
+        @Override
+        V peek(K key) {
+            return map.get(key);
+        }
+
+        @Override
+        V put(K key, V value) {
+            V previous = map.put(key, value);
+            trim(map, capacity);
+            return previous;
+        }
+
+        @Override
+        V remove(K key) {
+            return map.remove(key);
+        }
+
+        @Override
+        int removeIf(Predicate<? super K> filter) {
+            return removeKeys(map, filter);
+        }
+
+        @Override
+        int size() {
+            return map.size();
+        }
+
+        @Override
+        void setCapacity(int capacity) {
+            this.capacity = capacity;
+            trim(map, capacity);
+        }
+    }
+
+    /**
+     * Segment with Window TinyLFU eviction.
+     * <p>
+     * New entries land in a small LRU window holding about one percent of the
+     * segment capacity. An entry pushed out of the window competes with the least
+     * recently used entry of the main region. The one with the higher estimated
+     * access frequency stays and the other is discarded, unless the victim is
+     * stale, in which case the candidate always takes its place.
+     * </p>
+     */
+    private static final class TinyLfuSegment<K, V> extends Segment<K, V> {
+        private final LinkedHashMap<K, V> window;
+        private final LinkedHashMap<K, V> main;
+        private final FrequencySketch sketch;
+        private final Predicate<? super V> stale;
+        private int windowCapacity;
+        private int mainCapacity;
+
+        TinyLfuSegment(int capacity, Predicate<? super V> stale) {
+            this.stale = stale;
+            this.sketch = new FrequencySketch(capacity);
+            this.window = accessOrderedMap(Math.max(1, capacity / 100));
+            this.main = accessOrderedMap(capacity);
+            applyCapacity(capacity);
+        }
+
+        private void applyCapacity(int capacity) {
+            this.windowCapacity = capacity <= 1 ? capacity : Math.max(1, capacity / 100);
+            this.mainCapacity = capacity - windowCapacity;
+        }
+
+        @Override
+        V get(K key) {
+            sketch.increment(key);
+            return peek(key);
+        }
+
+        @Override
+        V peek(K key) {
+            V value = window.get(key);
+            return value != null ? value : main.get(key);
+        }
+
+        @Override
+        V put(K key, V value) {
+            if (window.containsKey(key)) {
+                return window.put(key, value);
+            }
+            if (main.containsKey(key)) {
+                return main.put(key, value);
+            }
+            sketch.increment(key);
+            window.put(key, value);
+            evict();
+            return null;
+        }
+
+        /**
+         * Moves entries that overflow the window into the main region, admitting
+         * each one only if it is used more often than the main region's victim.
+         */
+        private void evict() {
+            while (window.size() > windowCapacity) {
+                Iterator<Map.Entry<K, V>> iterator = window.entrySet().iterator();
+                Map.Entry<K, V> candidate = iterator.next();
+                iterator.remove();
+                if (main.size() < mainCapacity) {
+                    main.put(candidate.getKey(), candidate.getValue());
+                    continue;
+                }
+                if (mainCapacity == 0) {
+                    continue;
+                }
+                Iterator<Map.Entry<K, V>> mainIterator = main.entrySet().iterator();
+                Map.Entry<K, V> victim = mainIterator.next();
+                if (stale.test(victim.getValue())
+                        || sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+                    mainIterator.remove();
+                    main.put(candidate.getKey(), candidate.getValue());
+                }
+            }
+            trim(main, mainCapacity);
+        }
+
+        @Override
+        V remove(K key) {
+            V value = window.remove(key);
+            return value != null ? value : main.remove(key);
+        }
+
+        @Override
+        int removeIf(Predicate<? super K> filter) {
+            return removeKeys(window, filter) + removeKeys(main, filter);
+        }
+
+        @Override
+        int size() {
+            return window.size() + main.size();
+        }
+
+        @Override
+        void setCapacity(int capacity) {
+            applyCapacity(capacity);
+            sketch.ensureCapacity(capacity);
+            trim(main, mainCapacity);
+            evict();
+        }
     }
-}
\ No newline at end of file
+}
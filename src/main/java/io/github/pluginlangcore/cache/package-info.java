@@ -2,11 +2,12 @@
  * Caching utilities for high-performance data storage.
  * <p>
  * This package provides thread-safe caching implementations optimized
- * for use in Minecraft plugins, with LRU (Least Recently Used) eviction
- * policies.
+ * for use in Minecraft plugins, with LRU (Least Recently Used) or
+ * Window TinyLFU eviction policies.
  * </p>
  *
  * @see io.github.pluginlangcore.cache.LRUCache
+ * @see io.github.pluginlangcore.cache.EvictionPolicy
  * @since 1.0.0
  */
 package io.github.pluginlangcore.cache;
\ No newline at end of file
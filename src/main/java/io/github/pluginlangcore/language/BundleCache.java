@@ -0,0 +1,182 @@
+package io.github.pluginlangcore.language;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk cache of parsed language files in a compact binary form.
+ * <p>
+ * Parsing YAML, merging it with the bundled defaults and saving the result is the
+ * most expensive part of loading a locale. After a file has been loaded, its
+ * {@link KeyIndex} is written to {@code <cacheDir>/<locale>/<file>.bin} together
+ * with a {@link Fingerprint} of its sources. As long as neither the file nor the
+ * bundled default resource change, the next load reads the index directly.
+ * </p>
+ * <p>
+ * The cache is purely an optimization: a missing, outdated or unreadable bundle
+ * means the file is loaded from YAML again, and a bundle that cannot be written
+ * is simply skipped.
+ * </p>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class BundleCache {
+    private static final int MAGIC = 0x504C4342; // "PLCB"
+    private static final int FORMAT_VERSION = 1;
+
+    private final File directory;
+    private final Logger logger;
+
+    /**
+     * Creates a bundle cache.
+     *
+     * @param directory The directory the bundles are stored in
+     * @param logger    The logger for failures
+     */
+    BundleCache(File directory, Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    /**
+     * Identifies the exact sources a language file was loaded from.
+     *
+     * @param size         The size of the user file in bytes
+     * @param lastModified The modification time of the user file
+     * @param contentHash  The CRC32C of the user file
+     * @param resourcePath The path of the bundled default resource, or an empty string
+     * @param resourceHash The CRC32C of the bundled default resource, or 0 if there is none
+     */
+    record Fingerprint(long size, long lastModified, int contentHash, String resourcePath, int resourceHash) {
+        /**
+         * Computes the fingerprint of a language file.
+         *
+         * @param file         The user file
+         * @param resourcePath The path of the bundled default resource
+         * @param resource     The content of the bundled default resource, or null if there is none
+         * @return The fingerprint, or null if the user file does not exist or cannot be read
+         */
+        static Fingerprint of(File file, String resourcePath, byte[] resource) {
+            if (!file.isFile()) {
+                return null;
+            }
+            try {
+                long lastModified = file.lastModified();
+                byte[] content = Files.readAllBytes(file.toPath());
+                return new Fingerprint(content.length, lastModified, hash(content),
+                        resource != null ? resourcePath : "", resource != null ? hash(resource) : 0);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        private static int hash(byte[] bytes) {
+            CRC32C crc = new CRC32C();
+            crc.update(bytes);
+            return (int) crc.getValue();
+        }
+    }
+
+    /**
+     * Reads the bundle of a language file if it was written for the same sources.
+     *
+     * @param locale      The locale code
+     * @param fileName    The language file name (e.g., "messages.yml")
+     * @param fingerprint The fingerprint of the current sources
+     * @return The cached index, or null if there is no matching bundle
+     */
+    KeyIndex read(String locale, String fileName, Fingerprint fingerprint) {
+        File bundle = bundleFile(locale, fileName);
+        if (!bundle.isFile()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(bundle.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            Fingerprint stored = new Fingerprint(in.readLong(), in.readLong(), in.readInt(), in.readUTF(), in.readInt());
+            if (!stored.equals(fingerprint)) {
+                return null;
+            }
+            return KeyIndex.readFrom(in);
+        } catch (EOFException e) {
+            logger.warning("Ignoring truncated language bundle " + bundle.getName() + " for locale " + locale);
+            return null;
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to read language bundle " + bundle.getName() + " for locale " + locale, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the bundle of a language file, replacing any previous bundle atomically.
+     *
+     * @param locale      The locale code
+     * @param fileName    The language file name (e.g., "messages.yml")
+     * @param fingerprint The fingerprint of the sources the index was built from
+     * @param index       The index to store
+     */
+    void write(String locale, String fileName, Fingerprint fingerprint, KeyIndex index) {
+        File bundle = bundleFile(locale, fileName);
+        File parent = bundle.getParentFile();
+        // Files of one locale are written in parallel, so another task may create the directory first
+        if (!parent.mkdirs() && !parent.isDirectory()) {
+            logger.warning("Failed to create language bundle directory for locale " + locale);
+            return;
+        }
+
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(parent.toPath(), fileName, ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(fingerprint.size());
+                out.writeLong(fingerprint.lastModified());
+                out.writeInt(fingerprint.contentHash());
+                out.writeUTF(fingerprint.resourcePath());
+                out.writeInt(fingerprint.resourceHash());
+                index.writeTo(out);
+            }
+            move(temp, bundle.toPath());
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to write language bundle " + bundle.getName() + " for locale " + locale, e);
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Nothing left to do
+                }
+            }
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private File bundleFile(String locale, String fileName) {
+        return new File(directory, locale + "/" + fileName + ".bin");
+    }
+}
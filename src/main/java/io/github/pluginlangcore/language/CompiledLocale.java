@@ -0,0 +1,22 @@
+package io.github.pluginlangcore.language;
+
+/**
+ * Everything needed to serve lookups in one locale: its key index, its compiled
+ * templates and its own partition of render caches.
+ *
+ * @param locale The locale code (e.g., "de_DE")
+ * @param index  The flat key index of the locale's files
+ * @param table  The compiled templates of the locale
+ * @param caches The render caches of the locale
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+record CompiledLocale(
+        String locale,
+        LocaleIndex index,
+        LocaleTable table,
+        RenderCaches caches
+) {
+}
@@ -0,0 +1,557 @@
+package io.github.pluginlangcore.language;
+
+import io.github.pluginlangcore.cache.LRUCache;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Flat, immutable index from full dotted key to value for one language file.
+ * <p>
+ * A {@link ConfigurationSection} lookup splits the dotted path and walks nested
+ * section maps on every call. This index is built once when a file is loaded and
+ * answers each lookup with a single hash probe. Section paths are indexed as well,
+ * so {@link #contains(String)} behaves like {@link ConfigurationSection#contains(String)}.
+ * </p>
+ * <p>
+ * The getters follow the conversion rules of {@link ConfigurationSection}:
+ * <ul>
+ *   <li>{@link #getString(String)} returns the string form of any scalar or list value</li>
+ *   <li>{@link #getBoolean(String, boolean)} only accepts boolean values</li>
+ *   <li>{@link #getStringList(String)} returns an immutable list of the string and primitive elements</li>
+ * </ul>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * KeyIndex index = KeyIndex.of(YamlConfiguration.loadConfiguration(file));
+ * String message = index.getString("welcome.message");
+ * boolean enabled = index.getBoolean("welcome.enabled", true);
+ * }</pre>
+ * <p>
+ * An index can also be {@linkplain #mapped(KeyIndex, File) mapped}: the values then
+ * live in a memory-mapped file outside the Java heap and are decoded on access,
+ * with a small cache of recently decoded values in front. Only the keys stay on
+ * the heap. This suits locales that are loaded but rarely read.
+ * </p>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class KeyIndex {
+    private static final KeyIndex EMPTY = new KeyIndex(Map.of(), Map.of());
+
+    /**
+     * Marker stored for paths that are configuration sections.
+     */
+    private static final Object SECTION = new Object();
+
+    // Value tags of the binary form
+    private static final byte TAG_SECTION = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_LIST = 2;
+    private static final byte TAG_BOOLEAN = 3;
+
+    // Number of decoded values a mapped index keeps on the heap
+    private static final int MAPPED_CACHE_SIZE = 64;
+
+    /**
+     * The values by key, or null if the index is mapped.
+     */
+    private final Map<String, Object> values;
+
+    // Mapped storage: offset of each value in the buffer (-1 for sections), and recently decoded values
+    private final Map<String, Integer> offsets;
+    private final ByteBuffer buffer;
+    private final LRUCache<String, Object> decoded;
+
+    /**
+     * Keys filled in from fallback indexes, mapped to the locale they came from.
+     */
+    private final Map<String, String> inherited;
+
+    private KeyIndex(Map<String, Object> values, Map<String, String> inherited) {
+        this.values = values;
+        this.offsets = null;
+        this.buffer = null;
+        this.decoded = null;
+        this.inherited = inherited;
+    }
+
+    private KeyIndex(Map<String, Integer> offsets, ByteBuffer buffer, Map<String, String> inherited) {
+        this.values = null;
+        this.offsets = offsets;
+        this.buffer = buffer;
+        this.decoded = new LRUCache<>(MAPPED_CACHE_SIZE);
+        this.inherited = inherited;
+    }
+
+    /**
+     * Builds an index of every key in a configuration.
+     *
+     * @param config The configuration to index
+     * @return The flat index
+     */
+    static KeyIndex of(ConfigurationSection config) {
+        Set<String> keys = config.getKeys(true);
+        if (keys.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, Object> values = new HashMap<>((int) (keys.size() / 0.75f) + 1);
+        for (String path : keys) {
+            if (config.isConfigurationSection(path)) {
+                values.put(path, SECTION);
+            } else if (config.isList(path)) {
+                values.put(path, List.copyOf(config.getStringList(path)));
+            } else {
+                Object value = config.get(path);
+                if (value != null) {
+                    values.put(path, value);
+                }
+            }
+        }
+        return new KeyIndex(Map.copyOf(values), Map.of());
+    }
+
+    /**
+     * Writes the keys and values of this index in a compact binary form.
+     * <p>
+     * Scalar values other than booleans are written in their string form, which is
+     * all the getters ever expose. Inherited keys are not written.
+     * </p>
+     *
+     * @param out The output to write to
+     * @throws IOException if writing fails
+     * @see #readFrom(DataInput)
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size());
+        for (String path : keys()) {
+            writeString(out, path);
+            writeValue(out, value(path));
+        }
+    }
+
+    private static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == SECTION) {
+            out.writeByte(TAG_SECTION);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(bool);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeString(out, String.valueOf(element));
+            }
+        } else {
+            out.writeByte(TAG_STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in The input to read from
+     * @return The index
+     * @throws IOException if reading fails or the data is malformed
+     */
+    static KeyIndex readFrom(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Negative key count " + size);
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        Map<String, Object> values = new HashMap<>((int) (size / 0.75f) + 1);
+        for (int i = 0; i < size; i++) {
+            String path = readString(in);
+            byte tag = in.readByte();
+            switch (tag) {
+                case TAG_SECTION -> values.put(path, SECTION);
+                case TAG_BOOLEAN -> values.put(path, in.readBoolean());
+                case TAG_STRING -> values.put(path, readString(in));
+                case TAG_LIST -> {
+                    int length = in.readInt();
+                    List<String> list = new ArrayList<>(Math.max(0, length));
+                    for (int j = 0; j < length; j++) {
+                        list.add(readString(in));
+                    }
+                    values.put(path, List.copyOf(list));
+                }
+                default -> throw new IOException("Unknown value tag " + tag + " for " + path);
+            }
+        }
+        return new KeyIndex(Map.copyOf(values), Map.of());
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        // Length-prefixed UTF-8; writeUTF is limited to 64 KB
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a copy of an index whose values are stored in a memory-mapped file.
+     * <p>
+     * The values are written to a new file in {@code directory}, which is mapped
+     * read-only and then deleted where the platform allows it; the mapping stays
+     * valid until the index is garbage collected.
+     * </p>
+     *
+     * @param source    The index to copy
+     * @param directory The directory for the backing file
+     * @return The mapped index, or {@code source} itself if it is already mapped or empty
+     * @throws IOException if the file cannot be written or mapped
+     */
+    static KeyIndex mapped(KeyIndex source, File directory) throws IOException {
+        if (source.values == null || source.values.isEmpty()) {
+            return source;
+        }
+
+        Map<String, Integer> offsets = new HashMap<>((int) (source.values.size() / 0.75f) + 1);
+        Path file = Files.createTempFile(directory.toPath(), "index", ".map");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                for (Map.Entry<String, Object> entry : source.values.entrySet()) {
+                    if (entry.getValue() == SECTION) {
+                        offsets.put(entry.getKey(), -1);
+                    } else {
+                        offsets.put(entry.getKey(), out.size());
+                        writeValue(out, entry.getValue());
+                    }
+                }
+            }
+
+            ByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            return new KeyIndex(Map.copyOf(offsets), buffer, source.inherited);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // Mapped files cannot be deleted on some platforms
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the values of this index are stored in a memory-mapped file.
+     *
+     * @return true if the index is mapped
+     */
+    boolean isMapped() {
+        return values == null;
+    }
+
+    /**
+     * Gets the raw value of a key.
+     *
+     * @param path The full dotted key
+     * @return The value, {@link #SECTION} for sections, or null if the key is missing
+     */
+    private Object value(String path) {
+        if (values != null) {
+            return values.get(path);
+        }
+
+        Integer offset = offsets.get(path);
+        if (offset == null) {
+            return null;
+        }
+        if (offset < 0) {
+            return SECTION;
+        }
+
+        Object value = decoded.get(path);
+        if (value == null) {
+            value = decode(offset);
+            decoded.put(path, value);
+        }
+        return value;
+    }
+
+    private Object decode(int offset) {
+        byte tag = buffer.get(offset);
+        return switch (tag) {
+            case TAG_BOOLEAN -> buffer.get(offset + 1) != 0;
+            case TAG_STRING -> decodeString(offset + 1);
+            case TAG_LIST -> {
+                int length = buffer.getInt(offset + 1);
+                List<String> list = new ArrayList<>(length);
+                int position = offset + 5;
+                for (int i = 0; i < length; i++) {
+                    list.add(decodeString(position));
+                    // Skip the length prefix and the bytes of the element
+                    position += 4 + buffer.getInt(position);
+                }
+                yield List.copyOf(list);
+            }
+            default -> throw new IllegalStateException("Unknown value tag " + tag + " at offset " + offset);
+        };
+    }
+
+    private String decodeString(int offset) {
+        byte[] bytes = new byte[buffer.getInt(offset)];
+        buffer.get(offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Fills the keys missing from this index with the keys of a fallback index.
+     * <p>
+     * Keys of this index always win, and sections of both are merged. A fallback
+     * key is skipped when one of its parent paths holds a value here, so that a
+     * value never gains children. Every value taken from the fallback is recorded
+     * with the locale it came from, see {@link #inheritedKeys()}.
+     * </p>
+     *
+     * @param fallback       The index to take missing keys from
+     * @param fallbackLocale The locale of the fallback index (e.g., "en_US")
+     * @return The merged index, or this index if the fallback adds nothing
+     */
+    KeyIndex withFallback(KeyIndex fallback, String fallbackLocale) {
+        Map<String, Object> merged = null;
+        Map<String, String> sources = null;
+        for (String path : fallback.keys()) {
+            if (contains(path) || isBelowValue(path)) {
+                continue;
+            }
+            if (merged == null) {
+                merged = new HashMap<>();
+                for (String own : keys()) {
+                    merged.put(own, value(own));
+                }
+                sources = new HashMap<>(inherited);
+            }
+            Object value = fallback.value(path);
+            merged.put(path, value);
+            if (value != SECTION) {
+                sources.put(path, fallback.inherited.getOrDefault(path, fallbackLocale));
+            }
+        }
+        return merged == null ? this : new KeyIndex(Map.copyOf(merged), Map.copyOf(sources));
+    }
+
+    /**
+     * Creates a copy with some values replaced, keeping the record of inherited keys.
+     *
+     * @param replaced The new values by key
+     * @return The index with the values replaced
+     */
+    KeyIndex withValues(Map<String, Object> replaced) {
+        Map<String, Object> merged = new HashMap<>();
+        for (String path : keys()) {
+            merged.put(path, value(path));
+        }
+        merged.putAll(replaced);
+        return new KeyIndex(Map.copyOf(merged), inherited);
+    }
+
+    private boolean isBelowValue(String path) {
+        for (int dot = path.lastIndexOf('.'); dot > 0; dot = path.lastIndexOf('.', dot - 1)) {
+            Object parent = value(path.substring(0, dot));
+            if (parent != null) {
+                return parent != SECTION;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the keys whose value differs from an earlier version of this index.
+     * <p>
+     * Used on reload to keep everything derived from unchanged keys. A key counts
+     * as changed when it was added, removed, or holds a different value; a key
+     * that now comes from another fallback locale counts as changed as well.
+     * </p>
+     *
+     * @param previous The earlier version
+     * @return The added, removed and changed keys, empty if both hold the same content
+     */
+    Set<String> changedKeys(KeyIndex previous) {
+        if (previous == this) {
+            return Set.of();
+        }
+        Set<String> changed = new HashSet<>();
+        for (String path : keys()) {
+            if (!sameValue(value(path), previous.value(path))
+                    || !Objects.equals(inherited.get(path), previous.inherited.get(path))) {
+                changed.add(path);
+            }
+        }
+        for (String path : previous.keys()) {
+            if (!contains(path)) {
+                changed.add(path);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Compares two values the way the getters expose them: scalars other than
+     * booleans are equal when their string forms are, since a value read back from
+     * a bundle is a string while the same value parsed from YAML may be a number.
+     */
+    private static boolean sameValue(Object a, Object b) {
+        if (Objects.equals(a, b)) {
+            return true;
+        }
+        return isPlainScalar(a) && isPlainScalar(b) && a.toString().equals(b.toString());
+    }
+
+    private static boolean isPlainScalar(Object value) {
+        return value != null && value != SECTION && !(value instanceof Boolean) && !(value instanceof List<?>);
+    }
+
+    /**
+     * Returns an empty index.
+     *
+     * @return An index without keys
+     */
+    static KeyIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets a value as a string.
+     *
+     * @param path The full dotted key
+     * @return The string value, or null if the key is missing or is a section
+     */
+    String getString(String path) {
+        Object value = value(path);
+        return value == null || value == SECTION ? null : value.toString();
+    }
+
+    /**
+     * Gets a value as a string with a fallback.
+     *
+     * @param path The full dotted key
+     * @param def  The value returned when the key is missing or is a section
+     * @return The string value, or {@code def}
+     */
+    String getString(String path, String def) {
+        String value = getString(path);
+        return value != null ? value : def;
+    }
+
+    /**
+     * Gets a boolean value with a fallback.
+     *
+     * @param path The full dotted key
+     * @param def  The value returned when the key is missing or not a boolean
+     * @return The boolean value, or {@code def}
+     */
+    boolean getBoolean(String path, boolean def) {
+        Object value = value(path);
+        return value instanceof Boolean bool ? bool : def;
+    }
+
+    /**
+     * Gets a list value as strings.
+     *
+     * @param path The full dotted key
+     * @return An immutable list, empty if the key is missing or not a list
+     */
+    @SuppressWarnings("unchecked")
+    List<String> getStringList(String path) {
+        Object value = value(path);
+        return value instanceof List<?> list ? (List<String>) list : Collections.emptyList();
+    }
+
+    /**
+     * Checks whether a key holds a list.
+     *
+     * @param path The full dotted key
+     * @return true if the key holds a list
+     */
+    boolean isList(String path) {
+        return value(path) instanceof List<?>;
+    }
+
+    /**
+     * Checks whether a key is a configuration section.
+     *
+     * @param path The full dotted key
+     * @return true if the key is a section
+     */
+    boolean isSection(String path) {
+        return value(path) == SECTION;
+    }
+
+    /**
+     * Checks whether a key exists, either as a value or as a section.
+     *
+     * @param path The full dotted key
+     * @return true if the key exists
+     */
+    boolean contains(String path) {
+        return values != null ? values.containsKey(path) : offsets.containsKey(path);
+    }
+
+    /**
+     * Gets all indexed keys, including section paths.
+     *
+     * @return An immutable set of full dotted keys
+     */
+    Set<String> keys() {
+        return values != null ? values.keySet() : offsets.keySet();
+    }
+
+    /**
+     * Gets the keys that were filled in from fallback indexes.
+     *
+     * @return An immutable map from full dotted key to the locale it came from
+     * @see #withFallback(KeyIndex, String)
+     */
+    Map<String, String> inheritedKeys() {
+        return inherited;
+    }
+
+    /**
+     * Gets the number of indexed keys, including section paths.
+     *
+     * @return The number of keys
+     */
+    int size() {
+        return values != null ? values.size() : offsets.size();
+    }
+}
@@ -0,0 +1,244 @@
+package io.github.pluginlangcore.language;
+
+import io.github.pluginlangcore.language.LanguageManager.LanguageFileType;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Watches the language directory of a plugin and reports edited language files.
+ * <p>
+ * Every {@code language/<locale>/} directory is watched, including directories
+ * created later; the language files a new directory already contains, as after a
+ * recursive copy or a checkout, are reported as changed. Changes are collected until no further change has been seen for
+ * the debounce delay, so that an editor saving a file in several steps, or a
+ * translator replacing many files at once, triggers a single callback. The
+ * callback receives the changed file types by locale and runs on the watcher
+ * thread; it usually hands the changes to {@link LanguageManager#reloadFilesAsync(Map)}.
+ * </p>
+ * <p>
+ * Only the language files themselves are reported; other files in the directories,
+ * such as editor swap files, are ignored. The binary bundles under
+ * {@code cache/} are outside the watched directory.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * LanguageFileWatcher watcher = new LanguageFileWatcher(plugin, Duration.ofMillis(500),
+ *         languageManager::reloadFilesAsync);
+ * watcher.start();
+ *
+ * // In onDisable()
+ * watcher.close();
+ * }</pre>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LanguageFileWatcher implements AutoCloseable {
+    private final JavaPlugin plugin;
+    private final Path root;
+    private final Duration debounce;
+    private final Consumer<Map<String, Set<LanguageFileType>>> onChange;
+
+    /**
+     * Watched directories: the locale code of each locale directory, or an empty
+     * string for the language directory itself.
+     */
+    private final Map<WatchKey, String> directories = new ConcurrentHashMap<>();
+
+    private WatchService watchService;
+    private Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * Creates a watcher for the {@code language} directory of a plugin.
+     *
+     * @param plugin   The plugin owning the language files
+     * @param debounce How long the files must stay unchanged before changes are reported
+     * @param onChange Receives the changed file types by locale code, on the watcher thread
+     */
+    public LanguageFileWatcher(JavaPlugin plugin, Duration debounce,
+                               Consumer<Map<String, Set<LanguageFileType>>> onChange) {
+        this.plugin = plugin;
+        this.root = plugin.getDataFolder().toPath().resolve("language");
+        this.debounce = debounce;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Starts watching on a background daemon thread.
+     * <p>
+     * If the directory cannot be watched, a warning is logged and languages can
+     * still be reloaded manually.
+     * </p>
+     */
+    public synchronized void start() {
+        if (thread != null || closed) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(root);
+            watchService = FileSystems.getDefault().newWatchService();
+            register(root, "");
+            try (DirectoryStream<Path> localeDirs = Files.newDirectoryStream(root, Files::isDirectory)) {
+                for (Path localeDir : localeDirs) {
+                    register(localeDir, localeDir.getFileName().toString());
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to watch language files, hot reload is disabled", e);
+            close();
+            return;
+        }
+
+        thread = new Thread(this::run, "PluginLangCore-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching. Changes not reported yet are discarded.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+                // Nothing left to do
+            }
+        }
+    }
+
+    private void register(Path directory, String locale) throws IOException {
+        WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        directories.put(key, locale);
+    }
+
+    private void run() {
+        Map<String, Set<LanguageFileType>> pending = new HashMap<>();
+        long deadline = 0;
+        try {
+            while (!closed) {
+                WatchKey key;
+                if (pending.isEmpty()) {
+                    key = watchService.take();
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    key = remaining > 0 ? watchService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                }
+
+                if (key == null) {
+                    // Quiet for the whole debounce delay
+                    report(pending);
+                    pending = new HashMap<>();
+                } else {
+                    collect(key, pending);
+                    deadline = System.nanoTime() + debounce.toNanos();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    private void collect(WatchKey key, Map<String, Set<LanguageFileType>> pending) {
+        String locale = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost, treat every file of every locale as changed
+                for (String watched : directories.values()) {
+                    if (!watched.isEmpty()) {
+                        pending.computeIfAbsent(watched, ignored -> EnumSet.noneOf(LanguageFileType.class))
+                                .addAll(EnumSet.allOf(LanguageFileType.class));
+                    }
+                }
+                continue;
+            }
+
+            Path name = (Path) event.context();
+            if (locale == null) {
+                continue;
+            }
+            if (locale.isEmpty()) {
+                Path localeDir = root.resolve(name);
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(localeDir)) {
+                    try {
+                        register(localeDir, name.toString());
+                        // Files copied in along with the directory raise no events of their own
+                        collectExisting(localeDir, name.toString(), pending);
+                    } catch (IOException e) {
+                        plugin.getLogger().log(Level.WARNING, "Failed to watch language files for " + name, e);
+                    }
+                }
+                continue;
+            }
+
+            LanguageFileType fileType = fileTypeOf(name.toString());
+            if (fileType != null) {
+                pending.computeIfAbsent(locale, ignored -> EnumSet.noneOf(LanguageFileType.class)).add(fileType);
+            }
+        }
+
+        if (!key.reset()) {
+            // The directory was deleted
+            directories.remove(key);
+        }
+    }
+
+    private static void collectExisting(Path localeDir, String locale, Map<String, Set<LanguageFileType>> pending)
+            throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(localeDir)) {
+            for (Path file : files) {
+                LanguageFileType fileType = fileTypeOf(file.getFileName().toString());
+                if (fileType != null) {
+                    pending.computeIfAbsent(locale, ignored -> EnumSet.noneOf(LanguageFileType.class)).add(fileType);
+                }
+            }
+        }
+    }
+
+    private void report(Map<String, Set<LanguageFileType>> changes) {
+        if (!plugin.isEnabled()) {
+            close();
+            return;
+        }
+        try {
+            onChange.accept(changes);
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to reload changed language files", e);
+        }
+    }
+
+    private static LanguageFileType fileTypeOf(String fileName) {
+        for (LanguageFileType fileType : LanguageFileType.values()) {
+            if (fileType.getFileName().equals(fileName)) {
+                return fileType;
+            }
+        }
+        return null;
+    }
+}
@@ -2,19 +2,28 @@ package io.github.pluginlangcore.language;
 
 import io.github.pluginlangcore.cache.LRUCache;
 import io.github.pluginlangcore.util.ColorUtil;
+import io.github.pluginlangcore.util.ParallelTasks;
 import lombok.Getter;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitScheduler;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
@@ -30,6 +39,13 @@ import java.util.logging.Level;
  *   <li>Hex color code support</li>
  *   <li>Entity and material name formatting</li>
  *   <li>Number formatting with locale-specific patterns</li>
+ *   <li>Lock-free reads from an immutable snapshot that reloads replace atomically</li>
+ *   <li>Optional per-player locales resolved from the client language setting</li>
+ *   <li>Locale fallback chains resolved once per load</li>
+ *   <li>Optional on-demand loading and idle unloading of locales</li>
+ *   <li>Binary bundles of parsed files that skip YAML parsing when nothing changed</li>
+ *   <li>Optional off-heap storage of non-default locales in memory-mapped files</li>
+ *   <li>Incremental reloads of single edited files</li>
  * </ul>
  * <p>
  * The LanguageManager supports multiple language file types through the {@link LanguageFileType} enum,
@@ -57,36 +73,82 @@ import java.util.logging.Level;
 public class LanguageManager {
     private final JavaPlugin plugin;
 
-    @Getter
-    private String defaultLocale;
-
-    private final Map<String, LocaleData> localeMap = new HashMap<>();
-    private final Set<String> activeLocales = new HashSet<>();
     private final Set<LanguageFileType> activeFileTypes = new HashSet<>();
-    private LocaleData cachedDefaultLocaleData;
+    private final Set<String> configuredLocales = new LinkedHashSet<>();
+    private final Map<String, List<String>> fallbackChains = new HashMap<>();
+
+    /**
+     * How long a locale without players stays loaded, or null if every configured
+     * locale is loaded up front and kept.
+     */
+    private final Duration localeIdleTimeout;
+
+    /**
+     * Directory of the memory-mapped indexes of non-default locales, or null if
+     * every locale is kept on the heap.
+     */
+    private final File mappedDirectory;
+
+    /**
+     * Whether templates are rendered with pre-translated literal text, see
+     * {@link MessageTemplate#renderColored(Map)}.
+     */
+    private final boolean precompiledColors;
+
+    /**
+     * Whether lookups with a {@link Player} argument use the player's client locale.
+     * Otherwise every lookup uses the default locale.
+     */
+    private final boolean perPlayerLocales;
     private static final Map<String, String> EMPTY_PLACEHOLDERS = Collections.emptyMap();
+    private static final String DEFAULT_PREFIX = "&7[Server] &r";
+
+    /**
+     * Current loaded locales, compiled templates and render caches. Replaced as a
+     * whole on every load; readers read it once per call and never lock.
+     */
+    private volatile LanguageSnapshot snapshot;
+
+    // Message key handles, kept across reloads so that ids stay stable
+    private final MessageKey.Registry messageKeys = new MessageKey.Registry();
+
+    /**
+     * Compiled locale of each online player. An entry is only valid for the snapshot
+     * it was resolved against, so a reload never leaves a player on stale tables.
+     */
+    private final Map<UUID, PlayerLocale> playerLocales = new ConcurrentHashMap<>();
+
+    // On-demand loading: locales being loaded, and since when loaded locales have had no players
+    private final Set<String> pendingLocales = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> idleSince = new HashMap<>();
+
+    /**
+     * Incremented by every full load, so that an on-demand load that finishes after
+     * a reload is discarded instead of adding data older than the reload.
+     */
+    private volatile int loadGeneration;
 
-    // Enhanced cache implementation
-    private final LRUCache<String, String> formattedStringCache;
-    private final LRUCache<String, String[]> loreCache;
-    private final LRUCache<String, List<String>> loreListCache;
+    /**
+     * The latest asynchronous reload; the next one starts after it is published.
+     * Guarded by its own lock, since building a reload holds the manager's lock.
+     */
+    private final Object reloadsLock = new Object();
+    private CompletableFuture<Void> reloads = CompletableFuture.completedFuture(null);
 
-    private final LRUCache<String, String> guiItemNameCache;
-    private final LRUCache<String, String[]> guiItemLoreCache;
-    private final LRUCache<String, List<String>> guiItemLoreListCache;
+    // Parsed language files of previous loads, stored on disk
+    private final BundleCache bundleCache;
 
-    private final LRUCache<String, String> entityNameCache;
+    // Caches that do not depend on the loaded files, kept across reloads
+    private final LRUCache<String, MessageTemplate> templateCache;
     private final LRUCache<String, String> smallCapsCache;
-    private final LRUCache<String, String> materialNameCache;
 
     // Cache statistics
     private final AtomicInteger cacheHits = new AtomicInteger(0);
     private final AtomicInteger cacheMisses = new AtomicInteger(0);
 
     // Cache configuration
-    private static final int DEFAULT_STRING_CACHE_SIZE = 1000;
-    private static final int DEFAULT_LORE_CACHE_SIZE = 250;
-    private static final int DEFAULT_LORE_LIST_CACHE_SIZE = 250;
+    private static final int DEFAULT_TEMPLATE_CACHE_SIZE = 1000;
+    private static final int DEFAULT_SMALL_CAPS_CACHE_SIZE = 500;
 
     /**
      * Enum representing the different language file types supported by the language manager.
@@ -147,7 +209,8 @@ public class LanguageManager {
      * Constructs a LanguageManager with specific file types.
      * <p>
      * Use this constructor when you only need certain file types,
-     * reducing memory usage and improving performance.
+     * reducing memory usage and improving performance. Only the default locale is
+     * served, also by the lookups with a {@link Player} argument.
      * </p>
      *
      * @param plugin    The JavaPlugin instance using this language manager
@@ -163,25 +226,247 @@ public class LanguageManager {
      * }</pre>
      */
     public LanguageManager(JavaPlugin plugin, LanguageFileType... fileTypes) {
+        this(plugin, options().fileTypes(fileTypes));
+    }
+
+    /**
+     * Constructs a LanguageManager with the given options.
+     * <p>
+     * Use this constructor to serve several locales, see {@link Options} for what
+     * can be configured. Options left unset keep the behaviour of
+     * {@link #LanguageManager(JavaPlugin)}.
+     * </p>
+     *
+     * @param plugin  The JavaPlugin instance using this language manager
+     * @param options The options of this language manager
+     *
+     * <pre>{@code
+     * LanguageManager langManager = new LanguageManager(plugin, LanguageManager.options()
+     *     .locales(List.of("en_US", "de_DE", "pt_BR", "pt_PT"))
+     *     .fallbackChain("pt_BR", "pt_PT") // pt_BR -> pt_PT -> en_US
+     *     .perPlayerLocales(true));
+     * plugin.getServer().getPluginManager().registerEvents(new PlayerLocaleListener(langManager), plugin);
+     * }</pre>
+     */
+    public LanguageManager(JavaPlugin plugin, Options options) {
         this.plugin = plugin;
-        this.defaultLocale = plugin.getConfig().getString("language", "en_US");
-        activeFileTypes.addAll(Arrays.asList(fileTypes));
+        this.precompiledColors = options.precompiledColors;
+        this.perPlayerLocales = options.perPlayerLocales;
+        this.localeIdleTimeout = options.localeIdleTimeout;
+        this.bundleCache = new BundleCache(new File(plugin.getDataFolder(), "cache/language"), plugin.getLogger());
+        this.mappedDirectory = options.mappedStorage ? prepareMappedDirectory() : null;
+        activeFileTypes.addAll(options.fileTypes);
+        configuredLocales.addAll(options.locales);
+        options.fallbackChains.forEach((locale, chain) -> {
+            this.fallbackChains.put(locale, chain);
+            configuredLocales.add(locale);
+            configuredLocales.addAll(chain);
+        });
+
+        // Initialize the caches that survive reloads; the others come with each snapshot
+        this.templateCache = new LRUCache<>(DEFAULT_TEMPLATE_CACHE_SIZE, RenderCaches.RENDER_CACHE_POLICY);
+        this.smallCapsCache = new LRUCache<>(DEFAULT_SMALL_CAPS_CACHE_SIZE, RenderCaches.RENDER_CACHE_POLICY);
 
-        // Initialize caches
-        this.formattedStringCache = new LRUCache<>(DEFAULT_STRING_CACHE_SIZE);
-        this.loreCache = new LRUCache<>(DEFAULT_LORE_CACHE_SIZE);
-        this.loreListCache = new LRUCache<>(DEFAULT_LORE_LIST_CACHE_SIZE);
+        loadLanguages();
 
-        this.guiItemNameCache = new LRUCache<>(DEFAULT_STRING_CACHE_SIZE);
-        this.guiItemLoreCache = new LRUCache<>(DEFAULT_LORE_CACHE_SIZE);
-        this.guiItemLoreListCache = new LRUCache<>(DEFAULT_LORE_LIST_CACHE_SIZE);
+        if (localeIdleTimeout != null) {
+            // Check at least once a minute, and at most once a second
+            long periodTicks = Math.max(20, Math.min(1200, localeIdleTimeout.toMillis() / 50));
+            plugin.getServer().getScheduler().runTaskTimer(plugin, this::unloadIdleLocales, periodTicks, periodTicks);
+        }
+    }
 
-        this.entityNameCache = new LRUCache<>(250);
-        this.smallCapsCache = new LRUCache<>(500);
-        this.materialNameCache = new LRUCache<>(250);
+    /**
+     * Creates options with every feature at its default, for
+     * {@link #LanguageManager(JavaPlugin, Options)}.
+     *
+     * @return New options
+     */
+    public static Options options() {
+        return new Options();
+    }
 
-        loadLanguages();
-        cacheDefaultLocaleData();
+    /**
+     * Options of a {@link LanguageManager}.
+     * <p>
+     * By default, all file types are enabled and only the default locale from the
+     * plugin config is loaded and served, to every player. The options are copied
+     * when the manager is constructed; changing them afterwards has no effect.
+     * </p>
+     */
+    public static final class Options {
+        private final Set<String> locales = new LinkedHashSet<>();
+        private final Map<String, List<String>> fallbackChains = new LinkedHashMap<>();
+        private Duration localeIdleTimeout;
+        private boolean mappedStorage;
+        private boolean precompiledColors;
+        private boolean perPlayerLocales;
+        private List<LanguageFileType> fileTypes = List.of(LanguageFileType.values());
+
+        private Options() {
+        }
+
+        /**
+         * Sets the locales to load in addition to the default locale.
+         * <p>
+         * Locales are listed in order of preference: a client language without an
+         * exact match is served the first of them with the same language.
+         * </p>
+         *
+         * @param locales The locale codes (e.g., "de_DE", "vi_VN")
+         * @return These options
+         */
+        public Options locales(Collection<String> locales) {
+            this.locales.clear();
+            this.locales.addAll(locales);
+            return this;
+        }
+
+        /**
+         * Sets the fallback chain of a locale.
+         * <p>
+         * A key missing in {@code locale} is taken from the fallback locales, in
+         * order, and finally from the default locale, which ends every chain
+         * implicitly. Chains are not followed transitively: list every fallback
+         * locale of a chain. They are resolved once per load, so that every compiled
+         * locale is complete and a lookup is still a single probe. Locales named in a
+         * chain are loaded as well.
+         * </p>
+         *
+         * @param locale    The locale code (e.g., "pt_BR")
+         * @param fallbacks The fallback locale codes, in order of preference
+         * @return These options
+         * @see LanguageManager#getFallbackKeys(String, LanguageFileType)
+         */
+        public Options fallbackChain(String locale, String... fallbacks) {
+            return fallbackChain(locale, List.of(fallbacks));
+        }
+
+        /**
+         * Sets the fallback chain of a locale.
+         *
+         * @param locale    The locale code (e.g., "pt_BR")
+         * @param fallbacks The fallback locale codes, in order of preference
+         * @return These options
+         * @see #fallbackChain(String, String...)
+         */
+        public Options fallbackChain(String locale, List<String> fallbacks) {
+            this.fallbackChains.put(locale, List.copyOf(fallbacks));
+            return this;
+        }
+
+        /**
+         * Loads the locales on demand instead of up front.
+         * <p>
+         * Only the default locale and its fallback chain are loaded up front. Any
+         * other locale is loaded in the background the first time a player needs
+         * it; until it is ready, the player is served the first loaded locale of its
+         * fallback chain. A locale that has had no players for {@code idleTimeout}
+         * is unloaded again, together with its compiled templates and caches, so
+         * memory grows with the languages actually in use rather than with the
+         * languages offered. Loading and unloading use the Bukkit scheduler. Only
+         * has an effect together with {@link #perPlayerLocales(boolean)}.
+         * </p>
+         *
+         * @param idleTimeout How long a locale without players stays loaded,
+         *                    or null to load every locale up front and keep it
+         * @return These options
+         */
+        public Options loadLocalesOnDemand(Duration idleTimeout) {
+            this.localeIdleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Sets whether to keep non-default locales off the heap.
+         * <p>
+         * The flattened values of every locale except the default one are written
+         * to files under {@code cache/mapped} and memory-mapped. Strings are decoded
+         * from the mapped files on access and templates are compiled on first use,
+         * with small caches of recently used ones on the heap. The values read from
+         * the locale's own files stay on the heap to flatten it again on reloads.
+         * This reduces heap usage on servers that offer many languages, at the cost
+         * of slower first lookups in those languages. Default is {@code false}.
+         * </p>
+         *
+         * @param mappedStorage Whether to store non-default locales in memory-mapped files
+         * @return These options
+         */
+        public Options mappedLocaleStorage(boolean mappedStorage) {
+            this.mappedStorage = mappedStorage;
+            return this;
+        }
+
+        /**
+         * Sets whether to translate the color codes of template text once at load.
+         * <p>
+         * Rendering then only inserts the placeholder values, translating those
+         * that contain color codes on their own, so it costs time in proportion to
+         * the dynamic content only. Color codes must not be split between the text
+         * and a placeholder value, as in {@code "&{color}Text"} with the value
+         * {@code "a"}; templates whose text ends in an incomplete code before a
+         * placeholder are still translated as a whole. Default is {@code false}.
+         * </p>
+         *
+         * @param precompiledColors Whether to pre-translate color codes
+         * @return These options
+         */
+        public Options precompiledColors(boolean precompiledColors) {
+            this.precompiledColors = precompiledColors;
+            return this;
+        }
+
+        /**
+         * Sets whether lookups with a {@link Player} argument use the player's locale.
+         * <p>
+         * When enabled, a player is served the loaded locale that best matches their
+         * client language, or the default locale if none matches. Register a
+         * {@link PlayerLocaleListener} so that language changes made in the client
+         * settings are picked up ({@link io.github.pluginlangcore.LanguageSystem}
+         * does this automatically). When disabled, every lookup uses the default
+         * locale, and the other locales are only used as fallbacks. Default is
+         * {@code false}.
+         * </p>
+         *
+         * @param perPlayerLocales Whether to serve players in the locale of their client
+         * @return These options
+         */
+        public Options perPlayerLocales(boolean perPlayerLocales) {
+            this.perPlayerLocales = perPlayerLocales;
+            return this;
+        }
+
+        /**
+         * Sets which language file types to load. Default is all of them.
+         *
+         * @param fileTypes The file types to load (e.g., only MESSAGES and GUI)
+         * @return These options
+         */
+        public Options fileTypes(LanguageFileType... fileTypes) {
+            this.fileTypes = List.of(fileTypes);
+            return this;
+        }
+    }
+
+    /**
+     * Creates the directory for memory-mapped indexes and removes files left by
+     * earlier runs.
+     *
+     * @return The directory, or null if it cannot be created
+     */
+    private File prepareMappedDirectory() {
+        File directory = new File(plugin.getDataFolder(), "cache/mapped");
+        if (!directory.mkdirs() && !directory.isDirectory()) {
+            plugin.getLogger().warning("Failed to create " + directory + ", keeping all locales on the heap");
+            return null;
+        }
+        File[] leftovers = directory.listFiles();
+        if (leftovers != null) {
+            for (File leftover : leftovers) {
+                leftover.delete();
+            }
+        }
+        return directory;
     }
 
     //---------------------------------------------------
@@ -189,11 +474,11 @@ public class LanguageManager {
     //---------------------------------------------------
 
     /**
-     * Loads language files for the default locale.
+     * Loads language files for the default locale and the configured locales.
      * This method:
      * <ul>
      *   <li>Creates the language directory if it doesn't exist</li>
-     *   <li>Loads all active file types for the default locale</li>
+     *   <li>Loads all active file types for each locale</li>
      *   <li>Merges default values with user configuration</li>
      * </ul>
      */
@@ -202,363 +487,1305 @@ public class LanguageManager {
     }
 
     /**
-     * Loads specific language file types for the default locale.
+     * Loads specific language file types for the default locale and the configured locales.
+     * <p>
+     * Other loaded locales are kept. The result is published as a new snapshot.
+     * </p>
      *
      * @param fileTypes The file types to load
      */
-    public void loadLanguages(LanguageFileType... fileTypes) {
+    public synchronized void loadLanguages(LanguageFileType... fileTypes) {
+        LanguageSnapshot current = this.snapshot;
+        String defaultLocale = current != null
+                ? current.defaultLocale()
+                : plugin.getConfig().getString("language", "en_US");
+        Map<String, LocaleIndex> locales = current != null ? new HashMap<>(current.locales()) : new HashMap<>();
+
+        // Drop the locales loaded up front so that they are always loaded fresh
+        Set<String> localesToLoad = withFallbackChains(initialLocales(defaultLocale), defaultLocale);
+        locales.keySet().removeAll(localesToLoad);
+
         File langDir = new File(plugin.getDataFolder(), "language");
         if (!langDir.exists() && !langDir.mkdirs()) {
             plugin.getLogger().severe("Failed to create language directory!");
-            return;
+        } else {
+            locales.putAll(loadLocales(localesToLoad, defaultLocale, Set.of(), fileTypes));
         }
 
-        // Clear existing locale data for the default locale to ensure a fresh load
-        localeMap.remove(defaultLocale);
+        loadGeneration++;
+        snapshot = buildSnapshot(defaultLocale, locales, current);
+    }
 
-        // Load only the default locale
-        loadLocale(defaultLocale, fileTypes);
-        activeLocales.add(defaultLocale);
+    /**
+     * Gets the locales loaded by a full load: all configured locales, or only the
+     * default locale when locales are loaded on demand.
+     */
+    private Set<String> initialLocales(String defaultLocale) {
+        Set<String> locales = new LinkedHashSet<>();
+        if (localeIdleTimeout == null) {
+            locales.addAll(configuredLocales);
+        }
+        locales.add(defaultLocale);
+        return locales;
     }
 
     /**
-     * Caches the default locale data for fast access.
-     * <p>
-     * This method stores a reference to the default locale's data,
-     * which is used for all message retrieval operations to avoid
-     * repeated map lookups.
-     * </p>
+     * Adds the fallback chain of every locale, so that each can be flattened.
      */
-    private void cacheDefaultLocaleData() {
-        cachedDefaultLocaleData = localeMap.get(defaultLocale);
-        if (cachedDefaultLocaleData == null) {
-            plugin.getLogger().severe("Failed to cache default locale data for " + defaultLocale);
-            // Create empty configs as fallback
-            cachedDefaultLocaleData = LocaleData.empty();
-            localeMap.put(defaultLocale, cachedDefaultLocaleData);
+    private Set<String> withFallbackChains(Collection<String> locales, String defaultLocale) {
+        Set<String> result = new LinkedHashSet<>(locales);
+        for (String locale : locales) {
+            result.addAll(fallbackChain(locale, defaultLocale));
         }
+        return result;
     }
 
     /**
-     * Reloads all language files and clears caches.
+     * Builds a snapshot from loaded locales without publishing it.
      * <p>
-     * This method:
-     * <ul>
-     *   <li>Clears all caches to prevent stale data</li>
-     *   <li>Updates the default locale from config</li>
-     *   <li>Reloads all active language files</li>
-     *   <li>Re-caches the default locale</li>
-     * </ul>
-     * Call this method after changing language files or the default locale.
+     * The templates of every locale are compiled, and its caches are carried over
+     * from the previous snapshot without the entries of changed text, before the
+     * snapshot is published, so readers switch from the old state to the new one
+     * in a single step.
+     * </p>
+     *
+     * @param defaultLocale The default locale of the new snapshot
+     * @param locales       The loaded locales, may be modified
+     * @param previous      The snapshot being replaced, or null
+     * @return The new snapshot
      */
-    public void reloadLanguages() {
-        // Clear all caches first to avoid using stale data
-        clearCache();
-
-        // Update the default locale from config
-        this.defaultLocale = plugin.getConfig().getString("language", "en_US");
-
-        // Force reload all locale files for all active locales
-        for (String locale : activeLocales) {
-            // Remove current locale data to ensure fresh load
-            localeMap.remove(locale);
-            // Force reload all file types for this locale
-            for (LanguageFileType fileType : activeFileTypes) {
-                YamlConfiguration config = loadOrCreateFile(locale, fileType.getFileName(), true);
-                updateLocaleData(locale, fileType, config);
-            }
+    private LanguageSnapshot buildSnapshot(String defaultLocale, Map<String, LocaleIndex> locales,
+                                           LanguageSnapshot previous) {
+        if (!locales.containsKey(defaultLocale)) {
+            plugin.getLogger().severe("Failed to cache default locale data for " + defaultLocale);
+            // Create empty indexes as fallback
+            locales.put(defaultLocale, new LocaleIndex(KeyIndex.empty(), KeyIndex.empty(), KeyIndex.empty(),
+                    KeyIndex.empty()));
         }
 
-        // Load the new default locale if it's not already loaded
-        if (!activeLocales.contains(this.defaultLocale)) {
-            loadLocale(this.defaultLocale, activeFileTypes.toArray(new LanguageFileType[0]));
-            activeLocales.add(this.defaultLocale);
+        List<Callable<CompiledLocale>> tasks = new ArrayList<>(locales.size());
+        for (String locale : locales.keySet()) {
+            CompiledLocale previousLocale = previous != null ? previous.compiled().get(locale) : null;
+            tasks.add(() -> compileLocale(locale, defaultLocale, locales, previousLocale));
         }
 
-        // Re-cache the default locale data
-        cacheDefaultLocaleData();
-
-        plugin.getLogger().info("Successfully reloaded language files for language " + this.defaultLocale);
+        Map<String, CompiledLocale> compiled = new HashMap<>();
+        for (CompiledLocale locale : ParallelTasks.invokeAll(tasks)) {
+            compiled.put(locale.locale(), locale);
+            logFallbackKeys(locale);
+        }
+        return new LanguageSnapshot(defaultLocale, locales, compiled, compiled.get(defaultLocale), configuredLocales);
     }
 
     /**
-     * Updates locale data for a specific file type.
+     * Builds the indexes of a locale with the missing keys filled in along its fallback chain.
      *
-     * @param locale   The locale to update
-     * @param fileType The file type to update
-     * @param config   The new configuration
+     * @param locale        The locale code
+     * @param defaultLocale The default locale, which ends every chain
+     * @param locales       The loaded locales
+     * @return The flattened indexes
      */
-    private void updateLocaleData(String locale, LanguageFileType fileType, YamlConfiguration config) {
-        LocaleData existingData = localeMap.getOrDefault(locale, LocaleData.empty());
-
-        switch (fileType) {
-            case MESSAGES:
-                localeMap.put(locale, new LocaleData(config, existingData.gui(),
-                        existingData.formatting(), existingData.items()));
-                break;
-            case GUI:
-                localeMap.put(locale, new LocaleData(existingData.messages(), config,
-                        existingData.formatting(), existingData.items()));
-                break;
-            case FORMATTING:
-                localeMap.put(locale, new LocaleData(existingData.messages(), existingData.gui(),
-                        config, existingData.items()));
-                break;
-            case ITEMS:
-                localeMap.put(locale, new LocaleData(existingData.messages(), existingData.gui(),
-                        existingData.formatting(), config));
-                break;
+    private LocaleIndex flatten(String locale, String defaultLocale, Map<String, LocaleIndex> locales) {
+        LocaleIndex index = locales.get(locale);
+        for (String fallback : fallbackChain(locale, defaultLocale)) {
+            LocaleIndex fallbackIndex = locales.get(fallback);
+            if (fallbackIndex != null) {
+                index = index.withFallback(fallbackIndex, fallback);
+            }
         }
+        return index;
+    }
+
+    private List<String> fallbackChain(String locale, String defaultLocale) {
+        Set<String> chain = new LinkedHashSet<>(fallbackChains.getOrDefault(locale, List.of()));
+        chain.add(defaultLocale);
+        chain.remove(locale);
+        return List.copyOf(chain);
     }
 
     /**
-     * Loads or creates a language file, optionally forcing a reload.
+     * Flattens and compiles the templates of a locale and creates its cache partition.
+     * <p>
+     * References such as {@code {@formatting.currency}} are inlined into the flattened
+     * values first, see {@link ReferenceResolver}, so that a key referencing a changed
+     * key counts as changed itself.
+     * </p>
+     * <p>
+     * With mapped storage, a non-default locale keeps its flattened indexes in
+     * memory-mapped files and gets a lazily compiled table. Only the flattened
+     * indexes are mapped: the loaded ones stay on the heap, so flattening never
+     * decodes mapped values.
+     * </p>
+     * <p>
+     * When the locale was compiled before, only what its changed keys affect is
+     * replaced: a locale without changes is returned as it was, unchanged files
+     * keep their indexes, unchanged text keeps its templates, and the caches are
+     * carried over without the entries of replaced templates.
+     * </p>
      *
-     * @param locale      The locale to load
-     * @param fileName    The file name
-     * @param forceReload Whether to force reload from disk
-     * @return The loaded YAML configuration
+     * @param locale        The locale code
+     * @param defaultLocale The default locale
+     * @param locales       The loaded locales, including the fallback chain of {@code locale}
+     * @param previous      The previously compiled locale, or null
+     * @return The compiled locale
      */
-    private YamlConfiguration loadOrCreateFile(String locale, String fileName, boolean forceReload) {
-        File file = new File(plugin.getDataFolder(), "language/" + locale + "/" + fileName);
-        YamlConfiguration defaultConfig = new YamlConfiguration();
-        YamlConfiguration userConfig = new YamlConfiguration();
-
-        // Check if the default resource exists before trying to load it
-        boolean defaultResourceExists = plugin.getResource("language/" + defaultLocale + "/" + fileName) != null;
-
-        // Load default configuration from resources if it exists
-        if (defaultResourceExists) {
-            try (InputStream inputStream = plugin.getResource("language/" + defaultLocale + "/" + fileName)) {
-                if (inputStream != null) {
-                    defaultConfig.loadFromString(new String(inputStream.readAllBytes()));
-                }
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to load default " + fileName, e);
+    private CompiledLocale compileLocale(String locale, String defaultLocale, Map<String, LocaleIndex> locales,
+                                         CompiledLocale previous) {
+        LocaleIndex index = ReferenceResolver.resolve(flatten(locale, defaultLocale, locales), locale,
+                plugin.getLogger());
+        boolean mapped = mappedDirectory != null && !locale.equals(defaultLocale);
+        LocaleIndex.Changes changes = null;
+        if (previous != null) {
+            changes = index.changesSince(previous.index());
+            if (changes.isEmpty() && previous.table().isLazy() == mapped) {
+                return previous;
             }
+            index = index.reuseUnchanged(previous.index(), changes);
         }
 
-        // Only create file if it doesn't exist, the default resource exists, AND the file type is active
-        boolean isActiveFileType = isFileTypeActive(fileName);
-        if (!file.exists() && defaultResourceExists && isActiveFileType) {
-            try (InputStream inputStream = plugin.getResource("language/" + defaultLocale + "/" + fileName)) {
-                if (inputStream != null) {
-                    file.getParentFile().mkdirs();
-                    Files.copy(inputStream, file.toPath());
-                }
+        LocaleTable previousTable = previous != null ? previous.table() : null;
+        LocaleTable table = null;
+        if (mapped) {
+            try {
+                index = index.mapped(mappedDirectory);
+                table = LocaleTable.lazy(index, DEFAULT_PREFIX, previousTable);
             } catch (IOException e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to create " + fileName + " for locale " + locale, e);
-                return new YamlConfiguration();
+                plugin.getLogger().log(Level.WARNING, "Failed to map locale " + locale + ", keeping it on the heap", e);
             }
         }
-
-        // Load user configuration if file exists
-        if (file.exists()) {
-            try {
-                if (forceReload) {
-                    userConfig = YamlConfiguration.loadConfiguration(file);
-                } else {
-                    userConfig.load(file);
-                }
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.WARNING, "Failed to load " + fileName + " for locale " + locale + ". Using defaults.", e);
-                return defaultConfig;
-            }
-
-            // Merge configurations (add missing keys from default to user config)
-            boolean updated = false;
-            for (String key : defaultConfig.getKeys(false)) {
-                if (!userConfig.contains(key)) {
-                    userConfig.set(key, defaultConfig.get(key));
-                    updated = true;
-                }
-            }
-
-            // Save if updated
-            if (updated) {
-                try {
-                    userConfig.save(file);
-                    plugin.getLogger().info("Updated " + fileName + " for locale " + locale);
-                } catch (IOException e) {
-                    plugin.getLogger().log(Level.WARNING, "Failed to save updated " + fileName + " for locale " + locale, e);
+        if (table == null) {
+            table = LocaleTable.compile(index, DEFAULT_PREFIX, messageKeys, previousTable);
+            // Fold text without placeholders into its final form, and pre-translate the rest if enabled
+            for (Object template : table.templates()) {
+                if (template instanceof MessageTemplate message) {
+                    if (precompiledColors || message.isStatic()) {
+                        message.precolor();
+                    }
+                } else if (template instanceof LoreTemplate lore && lore.isStatic()) {
+                    lore.staticLore();
                 }
             }
-
-            return userConfig;
-        } else {
-            return new YamlConfiguration();
         }
+
+        RenderCaches caches = previous != null
+                ? carryOverCaches(previous, table, changes)
+                : RenderCaches.create();
+        return new CompiledLocale(locale, index, table, caches);
     }
 
     /**
-     * Checks if a file type is active based on the file name.
+     * Takes over the caches of a previously compiled locale for its new table.
      *
-     * @param fileName The file name to check
-     * @return true if the file type is active, false otherwise
+     * @param previous The previously compiled locale
+     * @param table    The new table
+     * @param changes  The changed keys since {@code previous}
+     * @return The caches for the new table
      */
-    private boolean isFileTypeActive(String fileName) {
+    private static RenderCaches carryOverCaches(CompiledLocale previous, LocaleTable table, LocaleIndex.Changes changes) {
+        Set<Object> deadTemplates = Collections.newSetFromMap(new IdentityHashMap<>());
+        deadTemplates.addAll(previous.table().templates());
+        deadTemplates.removeAll(table.templates());
+        boolean entityNamesChanged = changes.formatting().stream().anyMatch(key -> key.startsWith("mob_names."));
+        boolean materialNamesChanged = changes.items().stream().anyMatch(key -> key.startsWith("item."));
+        return previous.caches().carryOver(deadTemplates, entityNamesChanged, materialNamesChanged);
+    }
+
+    private void logFallbackKeys(CompiledLocale locale) {
+        Map<String, Integer> bySource = new TreeMap<>();
         for (LanguageFileType fileType : activeFileTypes) {
-            if (fileType.getFileName().equals(fileName)) {
-                return true;
+            for (String source : indexOf(locale.index(), fileType).inheritedKeys().values()) {
+                bySource.merge(source, 1, Integer::sum);
             }
         }
-        return false;
+        if (!bySource.isEmpty()) {
+            int total = bySource.values().stream().mapToInt(Integer::intValue).sum();
+            plugin.getLogger().info("Locale " + locale.locale() + " uses " + total
+                    + " keys from fallback locales " + bySource);
+        }
+    }
+
+    private static KeyIndex indexOf(LocaleIndex index, LanguageFileType fileType) {
+        return switch (fileType) {
+            case MESSAGES -> index.messages();
+            case GUI -> index.gui();
+            case FORMATTING -> index.formatting();
+            case ITEMS -> index.items();
+        };
+    }
+
+    /**
+     * Reloads all language files.
+     * <p>
+     * This method:
+     * <ul>
+     *   <li>Updates the default locale from config</li>
+     *   <li>Reloads all loaded locales into a new snapshot</li>
+     *   <li>Keeps the cached results of text that did not change</li>
+     * </ul>
+     * Until the new snapshot is published, other threads keep reading the previous one.
+     * Call this method after changing language files or the default locale.
+     */
+    public synchronized void reloadLanguages() {
+        // Update the default locale from config
+        String defaultLocale = plugin.getConfig().getString("language", "en_US");
+        snapshot = prepareReload(defaultLocale);
+
+        plugin.getLogger().info("Successfully reloaded language files for language " + defaultLocale);
     }
 
     /**
-     * Loads or creates a language file without forcing reload.
+     * Reloads all language files without blocking the calling thread.
+     * <p>
+     * File reading, YAML parsing, merging with defaults, saving and template
+     * compilation run on an asynchronous Bukkit task. Only the publication of the
+     * finished snapshot is scheduled back onto the main thread, where the returned
+     * future completes. Until then, all lookups keep using the current snapshot. If
+     * another reload was started in the meantime, the older snapshot is discarded
+     * instead of replacing the newer one. Asynchronous reloads, including those of
+     * single files, run one after another.
+     * </p>
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * langManager.reloadLanguagesAsync().whenComplete((ignored, error) -> {
+     *     if (error != null) {
+     *         sender.sendMessage("Reload failed: " + error.getMessage());
+     *     } else {
+     *         sender.sendMessage("Languages reloaded");
+     *     }
+     * });
+     * }</pre>
      *
-     * @param locale   The locale to load
-     * @param fileName The file name
-     * @return The loaded YAML configuration
+     * @return A future completed on the main thread once the new snapshot is published
      */
-    private YamlConfiguration loadOrCreateFile(String locale, String fileName) {
-        return loadOrCreateFile(locale, fileName, false);
+    public CompletableFuture<Void> reloadLanguagesAsync() {
+        // Read the config on the calling thread, Bukkit configs are not thread-safe
+        String defaultLocale = plugin.getConfig().getString("language", "en_US");
+        return enqueueReload(() -> prepareAndPublish(() -> {
+            synchronized (this) {
+                LanguageSnapshot next = prepareReload(defaultLocale);
+                return new PreparedReload(loadGeneration, next);
+            }
+        }, prepared -> {
+            if (prepared.generation() != loadGeneration) {
+                // A later reload was prepared in the meantime and read newer files
+                return;
+            }
+            snapshot = prepared.snapshot();
+            plugin.getLogger().info("Successfully reloaded language files for language " + defaultLocale);
+        }, "Failed to reload language files"));
     }
 
     /**
-     * Loads a specific locale with the given file types.
+     * Starts an asynchronous reload once the previous one has been published.
      *
-     * @param locale    The locale to load
-     * @param fileTypes The file types to load
+     * @param reload Starts the reload and returns its future
+     * @return A future completed once the reload is published or discarded
      */
-    private void loadLocale(String locale, LanguageFileType... fileTypes) {
-        File localeDir = new File(plugin.getDataFolder(), "language/" + locale);
-        if (!localeDir.exists() && !localeDir.mkdirs()) {
-            plugin.getLogger().severe("Failed to create locale directory for " + locale);
-            return;
+    private CompletableFuture<Void> enqueueReload(Supplier<CompletableFuture<Void>> reload) {
+        synchronized (reloadsLock) {
+            CompletableFuture<Void> next = reloads
+                    .exceptionally(ignored -> null)
+                    .thenCompose(ignored -> reload.get());
+            reloads = next;
+            return next;
         }
+    }
 
-        // Create and load or update only the specified files
-        YamlConfiguration messages = null;
-        YamlConfiguration gui = null;
-        YamlConfiguration formatting = null;
-        YamlConfiguration items = null;
-
-        for (LanguageFileType fileType : fileTypes) {
-            switch (fileType) {
-                case MESSAGES:
-                    messages = loadOrCreateFile(locale, fileType.getFileName());
-                    break;
-                case GUI:
-                    gui = loadOrCreateFile(locale, fileType.getFileName());
-                    break;
-                case FORMATTING:
-                    formatting = loadOrCreateFile(locale, fileType.getFileName());
-                    break;
-                case ITEMS:
-                    items = loadOrCreateFile(locale, fileType.getFileName());
-                    break;
-            }
-        }
+    /**
+     * Runs a preparation step on an asynchronous task and publishes its result on
+     * the main thread.
+     *
+     * @param prepare The preparation step
+     * @param publish The publication step
+     * @param failure The message logged when the preparation fails
+     * @param <T>     The prepared result type
+     * @return A future completed on the main thread once the result is published
+     */
+    private <T> CompletableFuture<Void> prepareAndPublish(Supplier<T> prepare, Consumer<T> publish, String failure) {
+        BukkitScheduler scheduler = plugin.getServer().getScheduler();
+        CompletableFuture<Void> future = new CompletableFuture<>();
 
-        // If a file wasn't specified, create an empty configuration
-        if (messages == null) messages = new YamlConfiguration();
-        if (gui == null) gui = new YamlConfiguration();
-        if (formatting == null) formatting = new YamlConfiguration();
-        if (items == null) items = new YamlConfiguration();
+        try {
+            scheduler.runTaskAsynchronously(plugin, () -> {
+                T prepared;
+                try {
+                    prepared = prepare.get();
+                } catch (Throwable t) {
+                    plugin.getLogger().log(Level.SEVERE, failure, t);
+                    future.completeExceptionally(t);
+                    return;
+                }
 
-        localeMap.put(locale, new LocaleData(messages, gui, formatting, items));
-    }
+                try {
+                    scheduler.runTask(plugin, () -> {
+                        publish.accept(prepared);
+                        future.complete(null);
+                    });
+                } catch (Throwable t) {
+                    // The plugin was disabled while the reload was running
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
 
-    //---------------------------------------------------
-    //               Messages Methods
-    //---------------------------------------------------
+        return future;
+    }
 
     /**
-     * Gets a message with prefix and applies placeholders and colors.
+     * Loads all loaded locales plus the given default locale into a new, unpublished snapshot.
+     * <p>
+     * Builds are serialized, so a synchronous and an asynchronous reload never
+     * write the same files at the same time.
+     * </p>
      *
-     * @param key          The message key
-     * @param placeholders Map of placeholders to replace
-     * @return The formatted message, or null if disabled
+     * @param defaultLocale The default locale of the new snapshot
+     * @return The new snapshot
      */
-    public String getMessage(String key, Map<String, String> placeholders) {
-        if (!isMessageEnabled(key)) {
-            return null;
-        }
+    private synchronized LanguageSnapshot prepareReload(String defaultLocale) {
+        LanguageFileType[] fileTypes = activeFileTypes.toArray(new LanguageFileType[0]);
+        Set<String> previousLocales = snapshot.locales().keySet();
 
-        String message = cachedDefaultLocaleData.messages().getString(key + ".message");
+        // Force reload all locale files for all loaded locales, plus the initial and new default locales
+        Set<String> localesToLoad = new LinkedHashSet<>(previousLocales);
+        localesToLoad.addAll(initialLocales(defaultLocale));
+        localesToLoad = withFallbackChains(localesToLoad, defaultLocale);
 
-        if (message == null) {
-            return "Missing message: " + key;
-        }
+        // All files of all locales are loaded in parallel and joined before the snapshot is built
+        Map<String, LocaleIndex> locales = loadLocales(localesToLoad, defaultLocale, previousLocales, fileTypes);
 
-        // Apply prefix
-        String prefix = getPrefix();
-        message = prefix + message;
+        loadGeneration++;
+        return buildSnapshot(defaultLocale, locales, snapshot);
+    }
 
-        // Apply placeholders and color formatting
-        return applyPlaceholdersAndColors(message, placeholders);
+    /**
+     * Reloads single language files without blocking the calling thread.
+     * <p>
+     * Only the given files are read and parsed again. Their locales are recompiled,
+     * together with the loaded locales that fall back to them; every other locale
+     * keeps its compiled tables and warm caches. Changes to locales that are not
+     * loaded, and to inactive file types, are ignored: such files are read when the
+     * locale is loaded. Reloads run one after another, each starting from the result
+     * of the previous one. If another load publishes while a change is being built,
+     * the change is reloaded again on top of the newer snapshot.
+     * </p>
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * langManager.reloadFilesAsync(Map.of("de_DE", Set.of(LanguageFileType.MESSAGES)));
+     * }</pre>
+     *
+     * @param changedFiles The changed file types, by locale code
+     * @return A future completed on the main thread once the change is published or discarded
+     * @see LanguageFileWatcher
+     */
+    public CompletableFuture<Void> reloadFilesAsync(Map<String, Set<LanguageFileType>> changedFiles) {
+        Map<String, Set<LanguageFileType>> changes = Map.copyOf(changedFiles);
+        return enqueueReload(() -> prepareAndPublish(() -> prepareFiles(changes),
+                loaded -> publishFiles(changes, loaded), "Failed to reload changed language files"));
+    }
+
+    /**
+     * Reloads changed files and recompiles the locales depending on them into an
+     * unpublished change.
+     *
+     * @param changes The changed file types, by locale code
+     * @return The reloaded locales and all recompiled locales
+     */
+    private synchronized LoadedLocales prepareFiles(Map<String, Set<LanguageFileType>> changes) {
+        LanguageSnapshot current = this.snapshot;
+        String defaultLocale = current.defaultLocale();
+
+        List<String> fileLocales = new ArrayList<>();
+        List<LanguageFileType> fileTypes = new ArrayList<>();
+        List<Callable<KeyIndex>> tasks = new ArrayList<>();
+        changes.forEach((locale, types) -> {
+            if (!current.locales().containsKey(locale)) {
+                return;
+            }
+            for (LanguageFileType fileType : types) {
+                if (activeFileTypes.contains(fileType)) {
+                    fileLocales.add(locale);
+                    fileTypes.add(fileType);
+                    tasks.add(() -> loadFile(locale, fileType.getFileName(), true));
+                }
+            }
+        });
+        List<KeyIndex> files = ParallelTasks.invokeAll(tasks);
+
+        Map<String, LocaleIndex> reloaded = new HashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            String locale = fileLocales.get(i);
+            LocaleIndex index = reloaded.getOrDefault(locale, current.locales().get(locale));
+            reloaded.put(locale, withFile(index, fileTypes.get(i), files.get(i)));
+        }
+
+        Map<String, LocaleIndex> all = new HashMap<>(current.locales());
+        all.putAll(reloaded);
+        List<Callable<CompiledLocale>> compileTasks = new ArrayList<>();
+        for (String locale : all.keySet()) {
+            if (reloaded.containsKey(locale)
+                    || !Collections.disjoint(fallbackChain(locale, defaultLocale), reloaded.keySet())) {
+                compileTasks.add(() -> compileLocale(locale, defaultLocale, all, current.compiled().get(locale)));
+            }
+        }
+        Map<String, CompiledLocale> compiled = new HashMap<>();
+        for (CompiledLocale locale : ParallelTasks.invokeAll(compileTasks)) {
+            compiled.put(locale.locale(), locale);
+        }
+
+        // Discard on-demand loads that were built from older data
+        loadGeneration++;
+        return new LoadedLocales(loadGeneration, current, reloaded, compiled);
+    }
+
+    private void publishFiles(Map<String, Set<LanguageFileType>> changes, LoadedLocales loaded) {
+        if (loaded.locales().isEmpty()) {
+            // None of the changed files belongs to a loaded locale
+            return;
+        }
+        if (snapshot != loaded.base()) {
+            // Another load published in the meantime; the change would undo parts of it
+            reloadFilesAsync(changes);
+            return;
+        }
+        snapshot = snapshot.withLocales(loaded.locales(), loaded.compiled());
+        plugin.getLogger().info("Reloaded changed language files for " + loaded.locales().keySet());
+    }
+
+    /**
+     * Replaces the index of one file of a loaded locale.
+     */
+    private static LocaleIndex withFile(LocaleIndex index, LanguageFileType fileType, KeyIndex file) {
+        return switch (fileType) {
+            case MESSAGES -> new LocaleIndex(file, index.gui(), index.formatting(), index.items());
+            case GUI -> new LocaleIndex(index.messages(), file, index.formatting(), index.items());
+            case FORMATTING -> new LocaleIndex(index.messages(), index.gui(), file, index.items());
+            case ITEMS -> new LocaleIndex(index.messages(), index.gui(), index.formatting(), file);
+        };
+    }
+
+    /**
+     * Gets the default locale code.
+     *
+     * @return The default locale (e.g., "en_US")
+     */
+    public String getDefaultLocale() {
+        return snapshot.defaultLocale();
+    }
+
+    /**
+     * Gets the fallback chain of a locale, ending with the default locale.
+     *
+     * @param locale The locale code (e.g., "pt_BR")
+     * @return The locales missing keys are taken from, in order
+     */
+    public List<String> getFallbackChain(String locale) {
+        return fallbackChain(locale, snapshot.defaultLocale());
+    }
+
+    /**
+     * Reports the keys of a locale that were taken from fallback locales.
+     * <p>
+     * Useful to find untranslated keys: every key listed here is missing from
+     * the locale's own file.
+     * </p>
+     *
+     * @param locale   The locale code (e.g., "de_DE")
+     * @param fileType The language file
+     * @return An immutable map from key to the locale it came from; empty if the
+     *         locale is not loaded or is complete
+     */
+    public Map<String, String> getFallbackKeys(String locale, LanguageFileType fileType) {
+        CompiledLocale compiled = snapshot.compiled().get(locale);
+        return compiled != null ? indexOf(compiled.index(), fileType).inheritedKeys() : Collections.emptyMap();
+    }
+
+    //---------------------------------------------------
+    //               Player Locale Methods
+    //---------------------------------------------------
+
+    /**
+     * Gets the locale code a player's messages are rendered in.
+     * <p>
+     * This is the locale matching the player's client locale, or the default
+     * locale if none matches or per-player locales are disabled. While a locale is
+     * being loaded on demand, its first loaded fallback is returned.
+     * </p>
+     *
+     * @param player The player
+     * @return The locale code (e.g., "de_DE")
+     */
+    public String getPlayerLocale(Player player) {
+        return localeFor(player).locale();
+    }
+
+    /**
+     * Re-resolves a player's locale after the client changed its language.
+     * <p>
+     * Called by {@link PlayerLocaleListener}, because {@link Player#locale()} still
+     * returns the old value while the change event is dispatched.
+     * </p>
+     *
+     * @param player    The player
+     * @param newLocale The new client locale
+     */
+    public void updatePlayerLocale(Player player, Locale newLocale) {
+        if (!perPlayerLocales) {
+            return;
+        }
+        playerLocales.put(player.getUniqueId(), resolve(this.snapshot, newLocale));
+    }
+
+    /**
+     * Drops the cached locale of a player, typically when the player leaves.
+     *
+     * @param player The player
+     */
+    public void forgetPlayer(Player player) {
+        playerLocales.remove(player.getUniqueId());
+    }
+
+    /**
+     * Gets the compiled locale of a player, resolving it against the current
+     * snapshot on first use and after every reload.
+     *
+     * @param player The player, or null for the default locale
+     * @return The compiled locale
+     */
+    CompiledLocale localeFor(Player player) {
+        LanguageSnapshot snapshot = this.snapshot;
+        if (player == null || !perPlayerLocales) {
+            return snapshot.defaults();
+        }
+
+        PlayerLocale cached = playerLocales.get(player.getUniqueId());
+        if (cached != null && cached.snapshot() == snapshot) {
+            return cached.locale();
+        }
+
+        PlayerLocale resolved = resolve(snapshot, player.locale());
+        playerLocales.put(player.getUniqueId(), resolved);
+        return resolved.locale();
+    }
+
+    /**
+     * Resolves a client locale against a snapshot, requesting the matching locale
+     * if it is available but not loaded.
+     */
+    private PlayerLocale resolve(LanguageSnapshot snapshot, Locale clientLocale) {
+        String requested = snapshot.match(clientLocale);
+        CompiledLocale locale = snapshot.compiled().get(requested);
+        if (locale == null) {
+            requestLocale(requested);
+            locale = snapshot.defaults();
+            for (String fallback : fallbackChain(requested, snapshot.defaultLocale())) {
+                CompiledLocale loaded = snapshot.compiled().get(fallback);
+                if (loaded != null) {
+                    locale = loaded;
+                    break;
+                }
+            }
+        }
+        return new PlayerLocale(snapshot, requested, locale);
+    }
+
+    //---------------------------------------------------
+    //               On-demand Loading
+    //---------------------------------------------------
+
+    /**
+     * Loads a locale in the background, unless it is already being loaded.
+     * <p>
+     * The files are read and compiled on an asynchronous task; the locale is added
+     * to the snapshot on the main thread. Players re-resolve their locale on their
+     * next lookup, because the snapshot changed.
+     * </p>
+     *
+     * @param locale The locale code
+     */
+    private void requestLocale(String locale) {
+        if (!pendingLocales.add(locale)) {
+            return;
+        }
+
+        BukkitScheduler scheduler = plugin.getServer().getScheduler();
+        try {
+            scheduler.runTaskAsynchronously(plugin, () -> {
+                try {
+                    LoadedLocales loaded = prepareLocale(locale);
+                    scheduler.runTask(plugin, () -> {
+                        publishLocale(loaded);
+                        pendingLocales.remove(locale);
+                    });
+                } catch (Throwable t) {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to load language files for " + locale, t);
+                    pendingLocales.remove(locale);
+                }
+            });
+        } catch (Throwable t) {
+            // The plugin is being disabled
+            pendingLocales.remove(locale);
+        }
+    }
+
+    /**
+     * Loads and compiles a locale and those of its fallback chain that are not loaded yet.
+     *
+     * @param locale The locale code
+     * @return The loaded locales, not yet published
+     */
+    private synchronized LoadedLocales prepareLocale(String locale) {
+        LanguageSnapshot current = this.snapshot;
+        String defaultLocale = current.defaultLocale();
+        Set<String> missing = withFallbackChains(List.of(locale), defaultLocale);
+        missing.removeAll(current.locales().keySet());
+
+        Map<String, LocaleIndex> loaded = loadLocales(missing, defaultLocale, Set.of(),
+                activeFileTypes.toArray(new LanguageFileType[0]));
+        Map<String, LocaleIndex> all = new HashMap<>(current.locales());
+        all.putAll(loaded);
+
+        Map<String, CompiledLocale> compiled = new HashMap<>();
+        for (String code : loaded.keySet()) {
+            compiled.put(code, compileLocale(code, defaultLocale, all, null));
+        }
+        return new LoadedLocales(loadGeneration, current, loaded, compiled);
+    }
+
+    private void publishLocale(LoadedLocales loaded) {
+        if (loaded.generation() != loadGeneration) {
+            // A reload finished in the meantime; the locale is requested again on its next use
+            return;
+        }
+        if (loaded.locales().isEmpty()) {
+            return;
+        }
+        snapshot = snapshot.withLocales(loaded.locales(), loaded.compiled());
+        plugin.getLogger().info("Loaded language files for " + loaded.locales().keySet());
+    }
+
+    /**
+     * Unloads the locales that have had no players for the idle timeout, unless a
+     * locale that stays loaded falls back to them. Runs periodically on the main thread when locales are loaded on demand.
+     */
+    private void unloadIdleLocales() {
+        LanguageSnapshot snapshot = this.snapshot;
+        Set<String> inUse = new HashSet<>();
+        for (PlayerLocale playerLocale : playerLocales.values()) {
+            inUse.add(playerLocale.requested());
+            inUse.add(playerLocale.locale().locale());
+        }
+
+        long now = System.nanoTime();
+        Set<String> idle = new HashSet<>();
+        idleSince.keySet().retainAll(snapshot.compiled().keySet());
+        for (String locale : snapshot.compiled().keySet()) {
+            if (locale.equals(snapshot.defaultLocale()) || inUse.contains(locale)) {
+                idleSince.remove(locale);
+            } else if (now - idleSince.computeIfAbsent(locale, ignored -> now) >= localeIdleTimeout.toNanos()) {
+                idle.add(locale);
+            }
+        }
+
+        // Keep the fallback locales of every locale that stays loaded, they provide its missing keys
+        boolean kept = true;
+        while (kept && !idle.isEmpty()) {
+            kept = false;
+            for (String locale : snapshot.compiled().keySet()) {
+                if (!idle.contains(locale)) {
+                    kept |= idle.removeAll(fallbackChain(locale, snapshot.defaultLocale()));
+                }
+            }
+        }
+
+        if (!idle.isEmpty()) {
+            this.snapshot = snapshot.withoutLocales(idle);
+            idleSince.keySet().removeAll(idle);
+            plugin.getLogger().info("Unloaded idle language files for " + idle);
+        }
+    }
+
+    /**
+     * Loads or creates a language file, optionally forcing a reload.
+     * <p>
+     * Only the locale's own bundled resource seeds the file and supplies missing
+     * keys. A locale the plugin bundles no resource for keeps the user's file as it
+     * is; its missing keys are filled from its fallback chain when it is compiled.
+     * </p>
+     *
+     * @param locale      The locale to load
+     * @param fileName    The file name
+     * @param forceReload Whether to force reload from disk
+     * @return The loaded YAML configuration, and whether it reflects the user file
+     */
+    private ParsedFile loadOrCreateFile(String locale, String fileName, boolean forceReload) {
+        File file = new File(plugin.getDataFolder(), "language/" + locale + "/" + fileName);
+        YamlConfiguration defaultConfig = new YamlConfiguration();
+        YamlConfiguration userConfig = new YamlConfiguration();
+        String resourcePath = resourcePath(locale, fileName);
+
+        // Check if the default resource exists before trying to load it
+        boolean defaultResourceExists = hasResource(resourcePath);
+
+        // Load default configuration from resources if it exists
+        if (defaultResourceExists) {
+            try (InputStream inputStream = plugin.getResource(resourcePath)) {
+                if (inputStream != null) {
+                    defaultConfig.loadFromString(new String(inputStream.readAllBytes()));
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to load default " + fileName, e);
+            }
+        }
+
+        // Only create file if it doesn't exist, the default resource exists, AND the file type is active
+        boolean isActiveFileType = isFileTypeActive(fileName);
+        if (!file.exists() && defaultResourceExists && isActiveFileType) {
+            try (InputStream inputStream = plugin.getResource(resourcePath)) {
+                if (inputStream != null) {
+                    file.getParentFile().mkdirs();
+                    Files.copy(inputStream, file.toPath());
+                }
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to create " + fileName + " for locale " + locale, e);
+                return new ParsedFile(new YamlConfiguration(), false);
+            }
+        }
+
+        // Load user configuration if file exists
+        if (file.exists()) {
+            try {
+                if (forceReload) {
+                    userConfig = YamlConfiguration.loadConfiguration(file);
+                } else {
+                    userConfig.load(file);
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to load " + fileName + " for locale " + locale + ". Using defaults.", e);
+                return new ParsedFile(defaultConfig, false);
+            }
+
+            // Merge configurations (add missing keys from default to user config)
+            boolean updated = false;
+            for (String key : defaultConfig.getKeys(false)) {
+                if (!userConfig.contains(key)) {
+                    userConfig.set(key, defaultConfig.get(key));
+                    updated = true;
+                }
+            }
+
+            // Save if updated
+            if (updated) {
+                try {
+                    userConfig.save(file);
+                    plugin.getLogger().info("Updated " + fileName + " for locale " + locale);
+                } catch (IOException e) {
+                    plugin.getLogger().log(Level.WARNING, "Failed to save updated " + fileName + " for locale " + locale, e);
+                }
+            }
+
+            return new ParsedFile(userConfig, true);
+        } else {
+            return new ParsedFile(new YamlConfiguration(), false);
+        }
+    }
+
+    /**
+     * Loads a language file, reading its key index from the bundle cache when possible.
+     * <p>
+     * If the file and its bundled default resource are unchanged since the bundle
+     * was written, YAML parsing, merging and saving are skipped. Otherwise the file
+     * is loaded from YAML and a new bundle is written. Only the index is kept; the
+     * parsed configuration is dropped once it has been indexed and saved.
+     * </p>
+     *
+     * @param locale      The locale to load
+     * @param fileName    The file name
+     * @param forceReload Whether to force reload from disk
+     * @return The key index of the file
+     */
+    private KeyIndex loadFile(String locale, String fileName, boolean forceReload) {
+        File file = new File(plugin.getDataFolder(), "language/" + locale + "/" + fileName);
+        String resourcePath = resourcePath(locale, fileName);
+        byte[] resource = readResource(resourcePath);
+
+        BundleCache.Fingerprint fingerprint = BundleCache.Fingerprint.of(file, resourcePath, resource);
+        if (fingerprint != null) {
+            KeyIndex cached = bundleCache.read(locale, fileName, fingerprint);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        ParsedFile parsed = loadOrCreateFile(locale, fileName, forceReload);
+        KeyIndex index = KeyIndex.of(parsed.config());
+        if (parsed.fromUserFile()) {
+            // Fingerprint the file as saved, after merging in missing defaults
+            fingerprint = BundleCache.Fingerprint.of(file, resourcePath, resource);
+            if (fingerprint != null) {
+                bundleCache.write(locale, fileName, fingerprint, index);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the path of the bundled resource providing the defaults of a language
+     * file. Defaults of other locales are never used, so that the fallback chain
+     * decides which locale fills the missing keys.
+     */
+    private String resourcePath(String locale, String fileName) {
+        return "language/" + locale + "/" + fileName;
+    }
+
+    /**
+     * Reads a bundled resource.
+     *
+     * @param path The resource path
+     * @return The content, or null if the resource does not exist or cannot be read
+     */
+    private byte[] readResource(String path) {
+        try (InputStream inputStream = plugin.getResource(path)) {
+            return inputStream != null ? inputStream.readAllBytes() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the plugin jar bundles a resource.
+     *
+     * @param path The resource path
+     * @return true if the resource exists
+     */
+    private boolean hasResource(String path) {
+        try (InputStream inputStream = plugin.getResource(path)) {
+            return inputStream != null;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if a file type is active based on the file name.
+     *
+     * @param fileName The file name to check
+     * @return true if the file type is active, false otherwise
+     */
+    private boolean isFileTypeActive(String fileName) {
+        for (LanguageFileType fileType : activeFileTypes) {
+            if (fileType.getFileName().equals(fileName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Loads locales with the given file types.
+     * <p>
+     * Locale directories are created first. Then every file of every locale is
+     * read, merged with its defaults and indexed in parallel, and the call waits
+     * for all of them before assembling the locale indexes.
+     * </p>
+     *
+     * @param locales        The locales to load
+     * @param defaultLocale  The default locale, which is kept on the heap when mapping
+     * @param forceReload    The locales to force reload from disk
+     * @param fileTypes      The file types to load
+     * @return The key indexes of the loaded locales; locales whose directory could not be created are missing
+     */
+    private Map<String, LocaleIndex> loadLocales(Collection<String> locales, String defaultLocale,
+                                                Set<String> forceReload, LanguageFileType... fileTypes) {
+        List<String> loadable = new ArrayList<>(locales.size());
+        for (String locale : locales) {
+            File localeDir = new File(plugin.getDataFolder(), "language/" + locale);
+            if (!localeDir.exists() && !localeDir.mkdirs()) {
+                plugin.getLogger().severe("Failed to create locale directory for " + locale);
+                continue;
+            }
+            loadable.add(locale);
+        }
+
+        // Create and load or update only the specified files
+        List<Callable<KeyIndex>> tasks = new ArrayList<>(loadable.size() * fileTypes.length);
+        for (String locale : loadable) {
+            boolean force = forceReload.contains(locale);
+            for (LanguageFileType fileType : fileTypes) {
+                tasks.add(() -> loadFile(locale, fileType.getFileName(), force));
+            }
+        }
+        List<KeyIndex> files = ParallelTasks.invokeAll(tasks);
+
+        Map<String, LocaleIndex> result = new HashMap<>();
+        int next = 0;
+        for (String locale : loadable) {
+            KeyIndex messages = null;
+            KeyIndex gui = null;
+            KeyIndex formatting = null;
+            KeyIndex items = null;
+
+            for (LanguageFileType fileType : fileTypes) {
+                KeyIndex file = files.get(next++);
+                switch (fileType) {
+                    case MESSAGES:
+                        messages = file;
+                        break;
+                    case GUI:
+                        gui = file;
+                        break;
+                    case FORMATTING:
+                        formatting = file;
+                        break;
+                    case ITEMS:
+                        items = file;
+                        break;
+                }
+            }
+
+            // If a file wasn't specified, use an empty index
+            if (messages == null) messages = KeyIndex.empty();
+            if (gui == null) gui = KeyIndex.empty();
+            if (formatting == null) formatting = KeyIndex.empty();
+            if (items == null) items = KeyIndex.empty();
+
+            result.put(locale, new LocaleIndex(messages, gui, formatting, items));
+        }
+        return result;
+    }
+
+    /**
+     * Result of parsing a language file from YAML.
+     *
+     * @param config       The configuration
+     * @param fromUserFile Whether the configuration was read from the user's file,
+     *                     rather than substituted after a failure
+     */
+    private record ParsedFile(YamlConfiguration config, boolean fromUserFile) {
+    }
+
+    /**
+     * Compiled locale of a player together with the snapshot it was resolved against.
+     *
+     * @param snapshot  The snapshot the locale belongs to
+     * @param requested The locale matching the player's client locale
+     * @param locale    The compiled locale served, a fallback while {@code requested} is loading
+     */
+    private record PlayerLocale(LanguageSnapshot snapshot, String requested, CompiledLocale locale) {
+    }
+
+    /**
+     * A snapshot prepared by a full reload, waiting to be published.
+     *
+     * @param generation The load generation it was prepared in
+     * @param snapshot   The new snapshot
+     */
+    private record PreparedReload(int generation, LanguageSnapshot snapshot) {
+    }
+
+    /**
+     * Locales loaded on demand or reloaded from changed files, waiting to be published.
+     *
+     * @param generation The load generation they were loaded in
+     * @param base       The snapshot they were loaded against
+     * @param locales    The key indexes of the loaded locales
+     * @param compiled   The compiled locales
+     */
+    private record LoadedLocales(int generation, LanguageSnapshot base, Map<String, LocaleIndex> locales,
+                                 Map<String, CompiledLocale> compiled) {
+    }
+
+    //---------------------------------------------------
+    //               Messages Methods
+    //---------------------------------------------------
+
+    /**
+     * Gets a message with prefix and applies placeholders and colors.
+     *
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted message, or null if disabled
+     */
+    public String getMessage(String key, Map<String, String> placeholders) {
+        return getMessage(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets a message with prefix and applies placeholders and colors, in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted message, or null if disabled
+     */
+    public String getMessage(Player player, String key, Map<String, String> placeholders) {
+        return getMessage(localeFor(player), key, placeholders);
+    }
+
+    /**
+     * Gets a message with prefix and applies placeholders and colors.
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted message, or null if disabled
+     */
+    private String getMessage(CompiledLocale locale, String key, Map<String, String> placeholders) {
+        MessageEntry entry = locale.table().entry(key);
+        if (entry != null && !entry.enabled()) {
+            return null;
+        }
+
+        // Compiled with the prefix already prepended
+        MessageTemplate template = entry != null ? entry.prefixedMessage() : null;
+
+        if (template == null) {
+            return "Missing message: " + key;
+        }
+
+        return renderWithColors(template, placeholders, locale.caches().formattedStrings());
+    }
+
+    /**
+     * Gets a message with prefix through an interned handle.
+     *
+     * @param key          The message key handle
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted message, or null if disabled
+     * @see #getMessageKey(String)
+     */
+    public String getMessage(MessageKey key, Map<String, String> placeholders) {
+        return getMessage(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets a message with prefix through an interned handle, in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The message key handle
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted message, or null if disabled
+     * @see #getMessageKey(String)
+     */
+    public String getMessage(Player player, MessageKey key, Map<String, String> placeholders) {
+        return getMessage(localeFor(player), key, placeholders);
+    }
+
+    /**
+     * Gets a message with prefix through an interned handle.
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The message key handle
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted message, or null if disabled
+     * @see #getMessageKey(String)
+     */
+    private String getMessage(CompiledLocale locale, MessageKey key, Map<String, String> placeholders) {
+        MessageEntry entry = key.belongsTo(messageKeys) ? locale.table().entry(key) : locale.table().entry(key.getKey());
+        if (entry != null && !entry.enabled()) {
+            return null;
+        }
+
+        MessageTemplate template = entry != null ? entry.prefixedMessage() : null;
+
+        if (template == null) {
+            return "Missing message: " + key.getKey();
+        }
+
+        return renderWithColors(template, placeholders, locale.caches().formattedStrings());
+    }
+
+    /**
+     * Gets a message without prefix, with placeholders and colors applied.
+     *
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted message without prefix, or null if disabled
+     */
+    public String getMessageWithoutPrefix(String key, Map<String, String> placeholders) {
+        return getMessageWithoutPrefix(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets a message without prefix, with placeholders and colors applied, in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted message without prefix, or null if disabled
+     */
+    public String getMessageWithoutPrefix(Player player, String key, Map<String, String> placeholders) {
+        return getMessageWithoutPrefix(localeFor(player), key, placeholders);
+    }
+
+    /**
+     * Gets a message without prefix, with placeholders and colors applied.
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted message without prefix, or null if disabled
+     */
+    private String getMessageWithoutPrefix(CompiledLocale locale, String key, Map<String, String> placeholders) {
+        MessageEntry entry = locale.table().entry(key);
+        if (entry != null && !entry.enabled()) {
+            return null;
+        }
+
+        MessageTemplate template = entry != null ? entry.message() : null;
+
+        if (template == null) {
+            return "Missing message: " + key;
+        }
+
+        return renderWithColors(template, placeholders, locale.caches().formattedStrings());
+    }
+
+    /**
+     * Gets a message for console output (placeholders only, no colors).
+     *
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The message with placeholders applied, or null if disabled
+     */
+    public String getMessageForConsole(String key, Map<String, String> placeholders) {
+        CompiledLocale locale = snapshot.defaults();
+        MessageEntry entry = locale.table().entry(key);
+        if (entry != null && !entry.enabled()) {
+            return null;
+        }
+
+        MessageTemplate template = entry != null ? entry.message() : null;
+
+        if (template == null) {
+            return "Missing message: " + key;
+        }
+
+        return renderPlain(template, placeholders, locale.caches().plainStrings());
+    }
+
+    /**
+     * Gets a message as plain text for console output (cached).
+     * <p>
+     * Color codes are stripped from the message text once when the language is
+     * loaded, so a message without placeholders is returned as is. Otherwise codes
+     * are also stripped from the rendered text, and the result is cached.
+     * </p>
+     *
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The message without color codes, or null if disabled
+     */
+    public String getConsoleMessage(String key, Map<String, String> placeholders) {
+        CompiledLocale locale = snapshot.defaults();
+        MessageEntry entry = locale.table().entry(key);
+        if (entry != null && !entry.enabled()) {
+            return null;
+        }
+
+        MessageTemplate template = entry != null ? entry.consoleMessage() : null;
+
+        if (template == null) {
+            return "Missing message: " + key;
+        }
+        if (template.isStatic()) {
+            return template.source();
+        }
+
+        LRUCache<RenderKey, String> cache = locale.caches().consoleStrings();
+        RenderKey lookupKey = RenderKey.lookup(template, template.slots(), placeholders);
+        String cachedResult = cache.get(lookupKey);
+        if (cachedResult != null) {
+            cacheHits.incrementAndGet();
+            return cachedResult;
+        }
+
+        cacheMisses.incrementAndGet();
+        RenderKey cacheKey = lookupKey.copy();
+        String result = ColorUtil.stripAllColorCodes(template.render(placeholders));
+        cache.put(cacheKey, result);
+        return result;
+    }
+
+    /**
+     * Gets the title component of a message.
+     *
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted title, or null if disabled or not found
+     */
+    public String getTitle(String key, Map<String, String> placeholders) {
+        return getTitle(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets the title component of a message, in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted title, or null if disabled or not found
+     */
+    public String getTitle(Player player, String key, Map<String, String> placeholders) {
+        return getTitle(localeFor(player), key, placeholders);
     }
 
     /**
-     * Gets a message without prefix, with placeholders and colors applied.
+     * Gets the title component of a message.
      *
+     * @param locale       The compiled locale to read from
      * @param key          The message key
      * @param placeholders Map of placeholders to replace
-     * @return The formatted message without prefix, or null if disabled
+     * @return The formatted title, or null if disabled or not found
      */
-    public String getMessageWithoutPrefix(String key, Map<String, String> placeholders) {
-        if (!isMessageEnabled(key)) {
+    private String getTitle(CompiledLocale locale, String key, Map<String, String> placeholders) {
+        MessageEntry entry = getMessageEntry(locale, key);
+        if (entry == null || entry.title() == null) {
             return null;
         }
-
-        String message = cachedDefaultLocaleData.messages().getString(key + ".message");
-
-        if (message == null) {
-            return "Missing message: " + key;
-        }
-
-        return applyPlaceholdersAndColors(message, placeholders);
+        return render(locale, entry.title(), placeholders);
     }
 
     /**
-     * Gets a message for console output (placeholders only, no colors).
+     * Gets the subtitle component of a message.
      *
      * @param key          The message key
      * @param placeholders Map of placeholders to replace
-     * @return The message with placeholders applied, or null if disabled
+     * @return The formatted subtitle, or null if disabled or not found
      */
-    public String getMessageForConsole(String key, Map<String, String> placeholders) {
-        if (!isMessageEnabled(key)) {
-            return null;
-        }
-
-        String message = cachedDefaultLocaleData.messages().getString(key + ".message");
-
-        if (message == null) {
-            return "Missing message: " + key;
-        }
-
-        return applyOnlyPlaceholders(message, placeholders);
+    public String getSubtitle(String key, Map<String, String> placeholders) {
+        return getSubtitle(snapshot.defaults(), key, placeholders);
     }
 
     /**
-     * Gets the title component of a message.
+     * Gets the subtitle component of a message, in the player's locale.
      *
+     * @param player       The player whose client locale selects the language
      * @param key          The message key
      * @param placeholders Map of placeholders to replace
-     * @return The formatted title, or null if disabled or not found
+     * @return The formatted subtitle, or null if disabled or not found
      */
-    public String getTitle(String key, Map<String, String> placeholders) {
-        if (!isMessageEnabled(key)) {
-            return null;
-        }
-        return getRawMessage(key + ".title", placeholders);
+    public String getSubtitle(Player player, String key, Map<String, String> placeholders) {
+        return getSubtitle(localeFor(player), key, placeholders);
     }
 
     /**
      * Gets the subtitle component of a message.
      *
+     * @param locale       The compiled locale to read from
      * @param key          The message key
      * @param placeholders Map of placeholders to replace
      * @return The formatted subtitle, or null if disabled or not found
      */
-    public String getSubtitle(String key, Map<String, String> placeholders) {
-        if (!isMessageEnabled(key)) {
+    private String getSubtitle(CompiledLocale locale, String key, Map<String, String> placeholders) {
+        MessageEntry entry = getMessageEntry(locale, key);
+        if (entry == null || entry.subtitle() == null) {
             return null;
         }
-        return getRawMessage(key + ".subtitle", placeholders);
+        return render(locale, entry.subtitle(), placeholders);
     }
 
     /**
@@ -569,10 +1796,35 @@ public class LanguageManager {
      * @return The formatted action bar text, or null if disabled or not found
      */
     public String getActionBar(String key, Map<String, String> placeholders) {
-        if (!isMessageEnabled(key)) {
+        return getActionBar(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets the action bar component of a message, in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted action bar text, or null if disabled or not found
+     */
+    public String getActionBar(Player player, String key, Map<String, String> placeholders) {
+        return getActionBar(localeFor(player), key, placeholders);
+    }
+
+    /**
+     * Gets the action bar component of a message.
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The message key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted action bar text, or null if disabled or not found
+     */
+    private String getActionBar(CompiledLocale locale, String key, Map<String, String> placeholders) {
+        MessageEntry entry = getMessageEntry(locale, key);
+        if (entry == null || entry.actionBar() == null) {
             return null;
         }
-        return getRawMessage(key + ".action_bar", placeholders);
+        return render(locale, entry.actionBar(), placeholders);
     }
 
     /**
@@ -582,20 +1834,86 @@ public class LanguageManager {
      * @return The sound name, or null if disabled or not found
      */
     public String getSound(String key) {
-        if (!isMessageEnabled(key)) {
-            return null;
-        }
+        return getSound(snapshot.defaults(), key);
+    }
+
+    /**
+     * Gets the sound name for a message, in the player's locale.
+     *
+     * @param player The player whose client locale selects the language
+     * @param key    The message key
+     * @return The sound name, or null if disabled or not found
+     */
+    public String getSound(Player player, String key) {
+        return getSound(localeFor(player), key);
+    }
+
+    /**
+     * Gets the sound name for a message.
+     *
+     * @param locale The compiled locale to read from
+     * @param key    The message key
+     * @return The sound name, or null if disabled or not found
+     */
+    private String getSound(CompiledLocale locale, String key) {
+        MessageEntry entry = getMessageEntry(locale, key);
+        return entry != null ? entry.sound() : null;
+    }
+
+    /**
+     * Gets the resolved entry of an enabled message key.
+     * <p>
+     * The entry carries every component needed to send the message, so callers
+     * sending several components look the key up only once.
+     * </p>
+     *
+     * @param locale The compiled locale to read from
+     * @param key    The message key
+     * @return The entry, or null if the key is not a message section or is disabled
+     */
+    MessageEntry getMessageEntry(CompiledLocale locale, String key) {
+        MessageEntry entry = locale.table().entry(key);
+        return entry != null && entry.enabled() ? entry : null;
+    }
+
+    /**
+     * Gets the resolved entry of an enabled message key through its handle.
+     *
+     * @param locale The compiled locale to read from
+     * @param key    The message key handle
+     * @return The entry, or null if the key is not a message section or is disabled
+     */
+    MessageEntry getMessageEntry(CompiledLocale locale, MessageKey key) {
+        MessageEntry entry = key.belongsTo(messageKeys) ? locale.table().entry(key) : locale.table().entry(key.getKey());
+        return entry != null && entry.enabled() ? entry : null;
+    }
 
-        return cachedDefaultLocaleData.messages().getString(key + ".sound");
+    /**
+     * Interns a message key into a handle.
+     * <p>
+     * Handles are cheap to use but are meant to be obtained once and stored, for
+     * example in a static field. Messages sent through a handle are fetched by array
+     * index instead of by key string. Handles remain valid across reloads, and a
+     * handle for a key that does not exist (yet) behaves like the missing key.
+     * </p>
+     *
+     * @param key The message key (e.g., "shop.purchase.success")
+     * @return The handle for the key
+     */
+    public MessageKey getMessageKey(String key) {
+        return messageKeys.intern(key);
     }
 
     /**
-     * Gets the configured message prefix.
+     * Renders a template of a message entry with placeholders and colors applied.
      *
-     * @return The message prefix
+     * @param locale       The compiled locale to read from
+     * @param template     The template to render
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted text
      */
-    private String getPrefix() {
-        return cachedDefaultLocaleData.messages().getString("prefix", "&7[Server] &r");
+    String render(CompiledLocale locale, MessageTemplate template, Map<String, String> placeholders) {
+        return renderWithColors(template, placeholders, locale.caches().formattedStrings());
     }
 
     /**
@@ -606,33 +1924,34 @@ public class LanguageManager {
      * @return The formatted message, or null if not found
      */
     String getRawMessage(String path, Map<String, String> placeholders) {
-        String message = cachedDefaultLocaleData.messages().getString(path);
+        CompiledLocale locale = snapshot.defaults();
+        MessageTemplate template = locale.table().message(path);
 
-        if (message == null) {
+        if (template == null) {
             return null;
         }
 
-        return applyPlaceholdersAndColors(message, placeholders);
+        return renderWithColors(template, placeholders, locale.caches().formattedStrings());
     }
 
     /**
-     * Checks if a message is enabled.
+     * Checks if a message key exists.
      *
      * @param key The message key
-     * @return true if enabled, false otherwise
+     * @return true if the key exists, false otherwise
      */
-    private boolean isMessageEnabled(String key) {
-        return cachedDefaultLocaleData.messages().getBoolean(key + ".enabled", true);
+    public boolean keyExists(String key) {
+        return snapshot.defaults().index().messages().contains(key);
     }
 
     /**
-     * Checks if a message key exists.
+     * Gets the index of the default messages.yml that {@link #keyExists(String)} reads.
+     * The instance is kept across reloads as long as the file does not change.
      *
-     * @param key The message key
-     * @return true if the key exists, false otherwise
+     * @return The index
      */
-    public boolean keyExists(String key) {
-        return cachedDefaultLocaleData.messages().contains(key);
+    KeyIndex getKeyExistsIndex() {
+        return snapshot.defaults().index().messages();
     }
 
     //---------------------------------------------------
@@ -657,17 +1976,41 @@ public class LanguageManager {
      * @return The formatted GUI title
      */
     public String getGuiTitle(String key, Map<String, String> placeholders) {
+        return getGuiTitle(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets a GUI title with placeholders, in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The GUI title key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted GUI title
+     */
+    public String getGuiTitle(Player player, String key, Map<String, String> placeholders) {
+        return getGuiTitle(localeFor(player), key, placeholders);
+    }
+
+    /**
+     * Gets a GUI title with placeholders.
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The GUI title key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted GUI title
+     */
+    private String getGuiTitle(CompiledLocale locale, String key, Map<String, String> placeholders) {
         if (!activeFileTypes.contains(LanguageFileType.GUI)) {
             return null;
         }
 
-        String title = cachedDefaultLocaleData.gui().getString(key);
+        MessageTemplate template = locale.table().gui(key);
 
-        if (title == null) {
+        if (template == null) {
             return "Missing GUI title: " + key;
         }
 
-        return applyPlaceholdersAndColors(title, placeholders);
+        return renderWithColors(template, placeholders, locale.caches().formattedStrings());
     }
 
     /**
@@ -688,28 +2031,41 @@ public class LanguageManager {
      * @return The formatted item name
      */
     public String getGuiItemName(String key, Map<String, String> placeholders) {
+        return getGuiItemName(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets a GUI item name with placeholders (cached), in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The item name key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted item name
+     */
+    public String getGuiItemName(Player player, String key, Map<String, String> placeholders) {
+        return getGuiItemName(localeFor(player), key, placeholders);
+    }
+
+    /**
+     * Gets a GUI item name with placeholders (cached).
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The item name key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted item name
+     */
+    private String getGuiItemName(CompiledLocale locale, String key, Map<String, String> placeholders) {
         if (!activeFileTypes.contains(LanguageFileType.GUI)) {
             return null;
         }
 
-        String cacheKey = key + "|" + generateCacheKey("", placeholders);
-        String cachedName = guiItemNameCache.get(cacheKey);
-        if (cachedName != null) {
-            cacheHits.incrementAndGet();
-            return cachedName;
-        }
-
-        cacheMisses.incrementAndGet();
-        String name = cachedDefaultLocaleData.gui().getString(key);
+        MessageTemplate template = locale.table().gui(key);
 
-        if (name == null) {
+        if (template == null) {
             return "Missing item name: " + key;
         }
 
-        String result = applyPlaceholdersAndColors(name, placeholders);
-        guiItemNameCache.put(cacheKey, result);
-
-        return result;
+        return renderWithColors(template, placeholders, locale.caches().guiItemNames());
     }
 
     /**
@@ -730,25 +2086,32 @@ public class LanguageManager {
      * @return Array of formatted lore lines
      */
     public String[] getGuiItemLore(String key, Map<String, String> placeholders) {
-        if (!activeFileTypes.contains(LanguageFileType.GUI)) {
-            return new String[0];
-        }
-
-        String cacheKey = key + "|" + generateCacheKey("", placeholders);
-        String[] cachedLore = guiItemLoreCache.get(cacheKey);
-        if (cachedLore != null) {
-            cacheHits.incrementAndGet();
-            return cachedLore;
-        }
+        return getGuiItemLore(snapshot.defaults(), key, placeholders);
+    }
 
-        cacheMisses.incrementAndGet();
-        List<String> loreList = cachedDefaultLocaleData.gui().getStringList(key);
-        String[] result = loreList.stream()
-                .map(line -> applyPlaceholdersAndColors(line, placeholders))
-                .toArray(String[]::new);
+    /**
+     * Gets GUI item lore with placeholders (cached), in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace
+     * @return Array of formatted lore lines
+     */
+    public String[] getGuiItemLore(Player player, String key, Map<String, String> placeholders) {
+        return getGuiItemLore(localeFor(player), key, placeholders);
+    }
 
-        guiItemLoreCache.put(cacheKey, result);
-        return result;
+    /**
+     * Gets GUI item lore with placeholders (cached).
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace
+     * @return Array of formatted lore lines
+     */
+    private String[] getGuiItemLore(CompiledLocale locale, String key, Map<String, String> placeholders) {
+        Lore lore = getGuiItemLoreLines(locale, key, placeholders);
+        return lore != null ? lore.toArray() : new String[0];
     }
 
     /**
@@ -761,6 +2124,17 @@ public class LanguageManager {
         return getGuiItemLoreAsList(key, EMPTY_PLACEHOLDERS);
     }
 
+    /**
+     * Gets GUI item lore as a list without placeholders, in the player's locale.
+     *
+     * @param player The player whose client locale selects the language
+     * @param key    The lore key
+     * @return List of formatted lore lines
+     */
+    public List<String> getGuiItemLoreAsList(Player player, String key) {
+        return getGuiItemLoreAsList(player, key, EMPTY_PLACEHOLDERS);
+    }
+
     /**
      * Gets GUI item lore as a list with placeholders (cached).
      *
@@ -769,32 +2143,60 @@ public class LanguageManager {
      * @return List of formatted lore lines
      */
     public List<String> getGuiItemLoreAsList(String key, Map<String, String> placeholders) {
+        return getGuiItemLoreAsList(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets GUI item lore as a list with placeholders (cached), in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace
+     * @return List of formatted lore lines
+     */
+    public List<String> getGuiItemLoreAsList(Player player, String key, Map<String, String> placeholders) {
+        return getGuiItemLoreAsList(localeFor(player), key, placeholders);
+    }
+
+    /**
+     * Gets GUI item lore as a list with placeholders (cached).
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace
+     * @return List of formatted lore lines
+     */
+    private List<String> getGuiItemLoreAsList(CompiledLocale locale, String key, Map<String, String> placeholders) {
+        Lore lore = getGuiItemLoreLines(locale, key, placeholders);
+        return lore != null ? lore.asList() : Collections.emptyList();
+    }
+
+    /**
+     * Gets GUI item lore with placeholders (cached), shared by the array and list getters.
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted lore, or null if there is none
+     */
+    private Lore getGuiItemLoreLines(CompiledLocale locale, String key, Map<String, String> placeholders) {
         if (!activeFileTypes.contains(LanguageFileType.GUI)) {
-            return Collections.emptyList();
+            return null;
         }
 
-        String cacheKey = key + "|" + generateCacheKey("", placeholders);
-        List<String> cachedLore = guiItemLoreListCache.get(cacheKey);
-        if (cachedLore != null) {
-            cacheHits.incrementAndGet();
-            return cachedLore;
+        LoreTemplate lore = locale.table().guiLore(key);
+        if (lore == null) {
+            return null;
         }
-
-        cacheMisses.incrementAndGet();
-        List<String> loreList = cachedDefaultLocaleData.gui().getStringList(key);
-        List<String> result = loreList.stream()
-                .map(line -> applyPlaceholdersAndColors(line, placeholders))
-                .toList();
-
-        guiItemLoreListCache.put(cacheKey, result);
-        return result;
+        return renderLore(lore, placeholders, locale.caches().guiItemLore());
     }
 
     /**
-     * Gets GUI item lore with support for multi-line placeholders.
+     * Gets GUI item lore with support for multi-line placeholders (cached).
      * <p>
      * This method expands any placeholder that contains newline characters into multiple lines.
-     * Useful for dynamic content that may span multiple lines.
+     * Useful for dynamic content that may span multiple lines. Each further line of a value
+     * repeats the text before the placeholder, so list markers and indentation carry over.
      * </p>
      *
      * @param key          The lore key
@@ -802,59 +2204,41 @@ public class LanguageManager {
      * @return List of formatted lore lines with multiline placeholders expanded
      */
     public List<String> getGuiItemLoreWithMultilinePlaceholders(String key, Map<String, String> placeholders) {
+        return getGuiItemLoreWithMultilinePlaceholders(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets GUI item lore with support for multi-line placeholders (cached), in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace (values may contain \n for multiline)
+     * @return List of formatted lore lines with multiline placeholders expanded
+     */
+    public List<String> getGuiItemLoreWithMultilinePlaceholders(Player player, String key,
+                                                                Map<String, String> placeholders) {
+        return getGuiItemLoreWithMultilinePlaceholders(localeFor(player), key, placeholders);
+    }
+
+    /**
+     * Gets GUI item lore with support for multi-line placeholders (cached).
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace (values may contain \n for multiline)
+     * @return List of formatted lore lines with multiline placeholders expanded
+     */
+    private List<String> getGuiItemLoreWithMultilinePlaceholders(CompiledLocale locale, String key,
+                                                                 Map<String, String> placeholders) {
         if (!activeFileTypes.contains(LanguageFileType.GUI)) {
             return Collections.emptyList();
         }
 
-        List<String> result = new ArrayList<>();
-        List<String> loreList = cachedDefaultLocaleData.gui().getStringList(key);
-
-        for (String line : loreList) {
-            boolean containsMultilinePlaceholder = false;
-
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                String placeholder = "{" + entry.getKey() + "}";
-                if (line.contains(placeholder) && entry.getValue().contains("\n")) {
-                    containsMultilinePlaceholder = true;
-                    break;
-                }
-            }
-
-            if (containsMultilinePlaceholder) {
-                String processedLine = line;
-
-                // Apply non-multiline placeholders first
-                for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                    String placeholder = "{" + entry.getKey() + "}";
-                    String value = entry.getValue();
-
-                    if (!value.contains("\n")) {
-                        processedLine = processedLine.replace(placeholder, value);
-                    }
-                }
-
-                // Handle multiline placeholders
-                for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                    String placeholder = "{" + entry.getKey() + "}";
-                    String value = entry.getValue();
-
-                    if (processedLine.contains(placeholder) && value.contains("\n")) {
-                        String[] valueLines = value.split("\n");
-                        String firstLine = processedLine.replace(placeholder, valueLines[0]);
-                        result.add(ColorUtil.translateHexColorCodes(firstLine));
-
-                        String lineStart = processedLine.substring(0, processedLine.indexOf(placeholder));
-                        for (int i = 1; i < valueLines.length; i++) {
-                            result.add(ColorUtil.translateHexColorCodes(lineStart + valueLines[i]));
-                        }
-                    }
-                }
-            } else {
-                result.add(applyPlaceholdersAndColors(line, placeholders));
-            }
+        LoreTemplate lore = locale.table().guiLore(key);
+        if (lore == null) {
+            return Collections.emptyList();
         }
-
-        return result;
+        return expandLore(lore, placeholders, locale.caches().expandedGuiLore()).asList();
     }
 
     //---------------------------------------------------
@@ -871,13 +2255,42 @@ public class LanguageManager {
      * @param material The Minecraft material
      * @return The formatted item name
      */
-    public String getVanillaItemName(Material material) {
+    public String getVanillaItemName(Material material) {
+        return getVanillaItemName(snapshot.defaults(), material);
+    }
+
+    /**
+     * Gets a vanilla Minecraft item name with proper formatting, in the player's locale.
+     * <p>
+     * First attempts to get a translated name from the items.yml file.
+     * If not found, falls back to a nicely formatted version of the material name.
+     * </p>
+     *
+     * @param player   The player whose client locale selects the language
+     * @param material The Minecraft material
+     * @return The formatted item name
+     */
+    public String getVanillaItemName(Player player, Material material) {
+        return getVanillaItemName(localeFor(player), material);
+    }
+
+    /**
+     * Gets a vanilla Minecraft item name with proper formatting.
+     * <p>
+     * First attempts to get a translated name from the items.yml file.
+     * If not found, falls back to a nicely formatted version of the material name.
+     * </p>
+     *
+     * @param locale   The compiled locale to read from
+     * @param material The Minecraft material
+     * @return The formatted item name
+     */
+    private String getVanillaItemName(CompiledLocale locale, Material material) {
         if (material == null) {
             return "Unknown Item";
         }
 
-        String cacheKey = "material|" + material.name();
-        String cachedName = materialNameCache.get(cacheKey);
+        String cachedName = locale.caches().materialNames().get(material);
         if (cachedName != null) {
             cacheHits.incrementAndGet();
             return cachedName;
@@ -888,16 +2301,17 @@ public class LanguageManager {
         String name = null;
 
         if (activeFileTypes.contains(LanguageFileType.ITEMS)) {
-            name = cachedDefaultLocaleData.items().getString(key);
+            MessageTemplate template = locale.table().item(key);
+            if (template != null) {
+                name = renderColored(template, null);
+            }
         }
 
         if (name == null) {
             name = formatEnumName(material.name());
-        } else {
-            name = applyPlaceholdersAndColors(name, null);
         }
 
-        materialNameCache.put(cacheKey, name);
+        locale.caches().materialNames().put(material, name);
         return name;
     }
 
@@ -908,12 +2322,34 @@ public class LanguageManager {
      * @return Array of lore lines
      */
     public String[] getVanillaItemLore(Material material) {
+        return getVanillaItemLore(snapshot.defaults(), material);
+    }
+
+    /**
+     * Gets vanilla item lore, in the player's locale.
+     *
+     * @param player   The player whose client locale selects the language
+     * @param material The Minecraft material
+     * @return Array of lore lines
+     */
+    public String[] getVanillaItemLore(Player player, Material material) {
+        return getVanillaItemLore(localeFor(player), material);
+    }
+
+    /**
+     * Gets vanilla item lore.
+     *
+     * @param locale   The compiled locale to read from
+     * @param material The Minecraft material
+     * @return Array of lore lines
+     */
+    private String[] getVanillaItemLore(CompiledLocale locale, Material material) {
         if (material == null) {
             return new String[0];
         }
 
         String key = "item." + material.name() + ".lore";
-        return getItemLore(key);
+        return getItemLore(locale, key, EMPTY_PLACEHOLDERS);
     }
 
     /**
@@ -934,16 +2370,40 @@ public class LanguageManager {
      * @return The formatted item name
      */
     public String getItemName(String key, Map<String, String> placeholders) {
+        return getItemName(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets an item name with placeholders, in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The item name key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted item name
+     */
+    public String getItemName(Player player, String key, Map<String, String> placeholders) {
+        return getItemName(localeFor(player), key, placeholders);
+    }
+
+    /**
+     * Gets an item name with placeholders.
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The item name key
+     * @param placeholders Map of placeholders to replace
+     * @return The formatted item name
+     */
+    private String getItemName(CompiledLocale locale, String key, Map<String, String> placeholders) {
         if (!activeFileTypes.contains(LanguageFileType.ITEMS)) {
             return key;
         }
 
-        String name = cachedDefaultLocaleData.items().getString(key);
-        if (name == null) {
+        MessageTemplate template = locale.table().item(key);
+        if (template == null) {
             return key;
         }
 
-        return applyPlaceholdersAndColors(name, placeholders);
+        return renderWithColors(template, placeholders, locale.caches().formattedStrings());
     }
 
     /**
@@ -964,86 +2424,88 @@ public class LanguageManager {
      * @return Array of lore lines
      */
     public String[] getItemLore(String key, Map<String, String> placeholders) {
+        return getItemLore(snapshot.defaults(), key, placeholders);
+    }
+
+    /**
+     * Gets item lore with placeholders (cached), in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace
+     * @return Array of lore lines
+     */
+    public String[] getItemLore(Player player, String key, Map<String, String> placeholders) {
+        return getItemLore(localeFor(player), key, placeholders);
+    }
+
+    /**
+     * Gets item lore with placeholders (cached).
+     *
+     * @param locale       The compiled locale to read from
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace
+     * @return Array of lore lines
+     */
+    private String[] getItemLore(CompiledLocale locale, String key, Map<String, String> placeholders) {
         if (!activeFileTypes.contains(LanguageFileType.ITEMS)) {
             return new String[0];
         }
 
-        String cacheKey = key + "|" + generateCacheKey("", placeholders);
-        String[] cachedLore = loreCache.get(cacheKey);
-        if (cachedLore != null) {
-            cacheHits.incrementAndGet();
-            return cachedLore;
+        LoreTemplate lore = locale.table().itemLore(key);
+        if (lore == null) {
+            return new String[0];
         }
+        return renderLore(lore, placeholders, locale.caches().itemLore()).toArray();
+    }
 
-        cacheMisses.incrementAndGet();
-        List<String> loreList = cachedDefaultLocaleData.items().getStringList(key);
-        String[] result = loreList.stream()
-                .map(line -> applyPlaceholdersAndColors(line, placeholders))
-                .toArray(String[]::new);
+    /**
+     * Gets item lore with support for multi-line placeholders (cached).
+     * <p>
+     * See {@link #getGuiItemLoreWithMultilinePlaceholders(String, Map)} for how values
+     * containing newline characters are expanded.
+     * </p>
+     *
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace (values may contain \n for multiline)
+     * @return List of formatted lore lines with multiline placeholders expanded
+     */
+    public List<String> getItemLoreWithMultilinePlaceholders(String key, Map<String, String> placeholders) {
+        return getItemLoreWithMultilinePlaceholders(snapshot.defaults(), key, placeholders);
+    }
 
-        loreCache.put(cacheKey, result);
-        return result;
+    /**
+     * Gets item lore with support for multi-line placeholders (cached), in the player's locale.
+     *
+     * @param player       The player whose client locale selects the language
+     * @param key          The lore key
+     * @param placeholders Map of placeholders to replace (values may contain \n for multiline)
+     * @return List of formatted lore lines with multiline placeholders expanded
+     */
+    public List<String> getItemLoreWithMultilinePlaceholders(Player player, String key,
+                                                             Map<String, String> placeholders) {
+        return getItemLoreWithMultilinePlaceholders(localeFor(player), key, placeholders);
     }
 
     /**
-     * Gets item lore with support for multi-line placeholders.
+     * Gets item lore with support for multi-line placeholders (cached).
      *
+     * @param locale       The compiled locale to read from
      * @param key          The lore key
      * @param placeholders Map of placeholders to replace (values may contain \n for multiline)
      * @return List of formatted lore lines with multiline placeholders expanded
      */
-    public List<String> getItemLoreWithMultilinePlaceholders(String key, Map<String, String> placeholders) {
+    private List<String> getItemLoreWithMultilinePlaceholders(CompiledLocale locale, String key,
+                                                              Map<String, String> placeholders) {
         if (!activeFileTypes.contains(LanguageFileType.ITEMS)) {
             return Collections.emptyList();
         }
 
-        List<String> result = new ArrayList<>();
-        List<String> loreList = cachedDefaultLocaleData.items().getStringList(key);
-
-        for (String line : loreList) {
-            boolean containsMultilinePlaceholder = false;
-
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                String placeholder = "{" + entry.getKey() + "}";
-                if (line.contains(placeholder) && entry.getValue().contains("\n")) {
-                    containsMultilinePlaceholder = true;
-                    break;
-                }
-            }
-
-            if (containsMultilinePlaceholder) {
-                String processedLine = line;
-
-                for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                    String placeholder = "{" + entry.getKey() + "}";
-                    String value = entry.getValue();
-
-                    if (!value.contains("\n")) {
-                        processedLine = processedLine.replace(placeholder, value);
-                    }
-                }
-
-                for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                    String placeholder = "{" + entry.getKey() + "}";
-                    String value = entry.getValue();
-
-                    if (processedLine.contains(placeholder) && value.contains("\n")) {
-                        String[] valueLines = value.split("\n");
-                        String firstLine = processedLine.replace(placeholder, valueLines[0]);
-                        result.add(ColorUtil.translateHexColorCodes(firstLine));
-
-                        String lineStart = processedLine.substring(0, processedLine.indexOf(placeholder));
-                        for (int i = 1; i < valueLines.length; i++) {
-                            result.add(ColorUtil.translateHexColorCodes(lineStart + valueLines[i]));
-                        }
-                    }
-                }
-            } else {
-                result.add(applyPlaceholdersAndColors(line, placeholders));
-            }
+        LoreTemplate lore = locale.table().itemLore(key);
+        if (lore == null) {
+            return Collections.emptyList();
         }
-
-        return result;
+        return expandLore(lore, placeholders, locale.caches().expandedItemLore()).asList();
     }
 
     //---------------------------------------------------
@@ -1065,6 +2527,44 @@ public class LanguageManager {
      * @return The formatted number string
      */
     public String formatNumber(double number) {
+        return formatNumber(snapshot.defaults(), number);
+    }
+
+    /**
+     * Formats a number with locale-specific patterns, in the player's locale.
+     * <p>
+     * Automatically abbreviates large numbers:
+     * <ul>
+     *   <li>1,000 → 1K</li>
+     *   <li>1,000,000 → 1M</li>
+     *   <li>1,000,000,000 → 1B</li>
+     *   <li>1,000,000,000,000 → 1T</li>
+     * </ul>
+     *
+     * @param player The player whose client locale selects the language
+     * @param number The number to format
+     * @return The formatted number string
+     */
+    public String formatNumber(Player player, double number) {
+        return formatNumber(localeFor(player), number);
+    }
+
+    /**
+     * Formats a number with locale-specific patterns.
+     * <p>
+     * Automatically abbreviates large numbers:
+     * <ul>
+     *   <li>1,000 → 1K</li>
+     *   <li>1,000,000 → 1M</li>
+     *   <li>1,000,000,000 → 1B</li>
+     *   <li>1,000,000,000,000 → 1T</li>
+     * </ul>
+     *
+     * @param locale The compiled locale to read from
+     * @param number The number to format
+     * @return The formatted number string
+     */
+    private String formatNumber(CompiledLocale locale, double number) {
         if (!activeFileTypes.contains(LanguageFileType.FORMATTING)) {
             return formatNumberDefault(number);
         }
@@ -1073,19 +2573,19 @@ public class LanguageManager {
         double value;
 
         if (number >= 1_000_000_000_000L) {
-            format = cachedDefaultLocaleData.formatting().getString("format_number.trillion", "{s}T");
+            format = locale.index().formatting().getString("format_number.trillion", "{s}T");
             value = Math.round(number / 1_000_000_000_000.0 * 10) / 10.0;
         } else if (number >= 1_000_000_000L) {
-            format = cachedDefaultLocaleData.formatting().getString("format_number.billion", "{s}B");
+            format = locale.index().formatting().getString("format_number.billion", "{s}B");
             value = Math.round(number / 1_000_000_000.0 * 10) / 10.0;
         } else if (number >= 1_000_000L) {
-            format = cachedDefaultLocaleData.formatting().getString("format_number.million", "{s}M");
+            format = locale.index().formatting().getString("format_number.million", "{s}M");
             value = Math.round(number / 1_000_000.0 * 10) / 10.0;
         } else if (number >= 1_000L) {
-            format = cachedDefaultLocaleData.formatting().getString("format_number.thousand", "{s}K");
+            format = locale.index().formatting().getString("format_number.thousand", "{s}K");
             value = Math.round(number / 1_000.0 * 10) / 10.0;
         } else {
-            format = cachedDefaultLocaleData.formatting().getString("format_number.default", "{s}");
+            format = locale.index().formatting().getString("format_number.default", "{s}");
             value = Math.round(number * 10) / 10.0;
         }
 
@@ -1142,13 +2642,42 @@ public class LanguageManager {
      * @return The formatted mob name
      */
     public String getFormattedMobName(EntityType type) {
+        return getFormattedMobName(snapshot.defaults(), type);
+    }
+
+    /**
+     * Gets a formatted mob/entity name (cached), in the player's locale.
+     * <p>
+     * First attempts to get a translated name from formatting.yml.
+     * If not found, converts the enum name to title case.
+     * </p>
+     *
+     * @param player The player whose client locale selects the language
+     * @param type   The entity type
+     * @return The formatted mob name
+     */
+    public String getFormattedMobName(Player player, EntityType type) {
+        return getFormattedMobName(localeFor(player), type);
+    }
+
+    /**
+     * Gets a formatted mob/entity name (cached).
+     * <p>
+     * First attempts to get a translated name from formatting.yml.
+     * If not found, converts the enum name to title case.
+     * </p>
+     *
+     * @param locale The compiled locale to read from
+     * @param type   The entity type
+     * @return The formatted mob name
+     */
+    private String getFormattedMobName(CompiledLocale locale, EntityType type) {
         if (type == null || type == EntityType.UNKNOWN) {
             return "Unknown";
         }
 
         String mobNameKey = type.name();
-        String cacheKey = "mob_name|" + mobNameKey;
-        String cachedName = entityNameCache.get(cacheKey);
+        String cachedName = locale.caches().entityNames().get(type);
 
         if (cachedName != null) {
             cacheHits.incrementAndGet();
@@ -1159,17 +2688,17 @@ public class LanguageManager {
         String result;
 
         if (activeFileTypes.contains(LanguageFileType.FORMATTING)) {
-            String formattedName = cachedDefaultLocaleData.formatting().getString("mob_names." + mobNameKey);
+            String formattedName = locale.index().formatting().getString("mob_names." + mobNameKey);
 
             if (formattedName != null) {
-                result = applyPlaceholdersAndColors(formattedName, null);
-                entityNameCache.put(cacheKey, result);
+                result = renderWithColors(templateFor(formattedName), null, locale.caches().formattedStrings());
+                locale.caches().entityNames().put(type, result);
                 return result;
             }
         }
 
         result = formatEnumName(mobNameKey);
-        entityNameCache.put(cacheKey, result);
+        locale.caches().entityNames().put(type, result);
         return result;
     }
 
@@ -1215,8 +2744,7 @@ public class LanguageManager {
             return "";
         }
 
-        String cacheKey = "smallcaps|" + text;
-        String cachedText = smallCapsCache.get(cacheKey);
+        String cachedText = smallCapsCache.get(text);
 
         if (cachedText != null) {
             cacheHits.incrementAndGet();
@@ -1237,7 +2765,7 @@ public class LanguageManager {
         }
 
         String smallCapsText = result.toString();
-        smallCapsCache.put(cacheKey, smallCapsText);
+        smallCapsCache.put(text, smallCapsText);
         return smallCapsText;
     }
 
@@ -1288,27 +2816,7 @@ public class LanguageManager {
      */
     public String applyPlaceholdersAndColors(String text, Map<String, String> placeholders) {
         if (text == null) return null;
-
-        String cacheKey = generateCacheKey(text, placeholders);
-        String cachedResult = formattedStringCache.get(cacheKey);
-
-        if (cachedResult != null) {
-            cacheHits.incrementAndGet();
-            return cachedResult;
-        }
-
-        cacheMisses.incrementAndGet();
-        String result = text;
-
-        if (placeholders != null && !placeholders.isEmpty()) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                result = result.replace("{" + entry.getKey() + "}", entry.getValue());
-            }
-        }
-
-        result = ColorUtil.translateHexColorCodes(result);
-        formattedStringCache.put(cacheKey, result);
-        return result;
+        return renderWithColors(templateFor(text), placeholders, snapshot.defaults().caches().formattedStrings());
     }
 
     /**
@@ -1318,16 +2826,38 @@ public class LanguageManager {
      * @return The color code string
      */
     public String getColorCode(String path) {
+        return getColorCode(snapshot.defaults(), path);
+    }
+
+    /**
+     * Gets a color code from the GUI configuration, in the player's locale.
+     *
+     * @param player The player whose client locale selects the language
+     * @param path   The configuration path
+     * @return The color code string
+     */
+    public String getColorCode(Player player, String path) {
+        return getColorCode(localeFor(player), path);
+    }
+
+    /**
+     * Gets a color code from the GUI configuration.
+     *
+     * @param locale The compiled locale to read from
+     * @param path   The configuration path
+     * @return The color code string
+     */
+    private String getColorCode(CompiledLocale locale, String path) {
         if (!activeFileTypes.contains(LanguageFileType.GUI)) {
             return ChatColor.WHITE.toString();
         }
 
-        String colorStr = cachedDefaultLocaleData.gui().getString(path);
-        if (colorStr == null) {
+        MessageTemplate template = locale.table().gui(path);
+        if (template == null) {
             return ChatColor.WHITE.toString();
         }
 
-        return applyPlaceholdersAndColors(colorStr, EMPTY_PLACEHOLDERS);
+        return renderWithColors(template, EMPTY_PLACEHOLDERS, locale.caches().formattedStrings());
     }
 
     /**
@@ -1339,9 +2869,29 @@ public class LanguageManager {
      */
     public String applyOnlyPlaceholders(String text, Map<String, String> placeholders) {
         if (text == null) return null;
+        return renderPlain(templateFor(text), placeholders, snapshot.defaults().caches().plainStrings());
+    }
+
+    /**
+     * Renders a template and translates color codes, caching the result.
+     * <p>
+     * Templates without placeholders are returned in their folded form, which is
+     * rendered once per template and bypasses the cache and its statistics.
+     * </p>
+     *
+     * @param template     The compiled template
+     * @param placeholders Map of placeholders to replace
+     * @param cache        The cache holding rendered results for this kind of text
+     * @return The formatted text
+     */
+    private String renderWithColors(MessageTemplate template, Map<String, String> placeholders,
+                                    LRUCache<RenderKey, String> cache) {
+        if (template.isStatic()) {
+            return template.renderColored(null);
+        }
 
-        String cacheKey = generateCacheKey(text, placeholders);
-        String cachedResult = formattedStringCache.get(cacheKey);
+        RenderKey lookupKey = RenderKey.lookup(template, template.slots(), placeholders);
+        String cachedResult = cache.get(lookupKey);
 
         if (cachedResult != null) {
             cacheHits.incrementAndGet();
@@ -1349,60 +2899,154 @@ public class LanguageManager {
         }
 
         cacheMisses.incrementAndGet();
-        String result = text;
+        RenderKey cacheKey = lookupKey.copy();
+        String result = renderColored(template, placeholders);
+        cache.put(cacheKey, result);
+        return result;
+    }
 
-        if (placeholders != null && !placeholders.isEmpty()) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                result = result.replace("{" + entry.getKey() + "}", entry.getValue());
-            }
+    /**
+     * Renders a template and translates color codes, using the pre-translated
+     * template text if enabled.
+     *
+     * @param template     The compiled template
+     * @param placeholders Map of placeholders to replace, may be null
+     * @return The formatted text
+     */
+    private String renderColored(MessageTemplate template, Map<String, String> placeholders) {
+        return precompiledColors
+                ? template.renderColored(placeholders)
+                : ColorUtil.translateHexColorCodes(template.render(placeholders));
+    }
+
+    /**
+     * Renders a template without translating color codes, caching the result.
+     *
+     * @param template     The compiled template
+     * @param placeholders Map of placeholders to replace
+     * @param cache        The cache holding rendered results
+     * @return The text with placeholders applied
+     */
+    private String renderPlain(MessageTemplate template, Map<String, String> placeholders,
+                               LRUCache<RenderKey, String> cache) {
+        if (template.isStatic()) {
+            return template.source();
         }
 
-        formattedStringCache.put(cacheKey, result);
+        RenderKey lookupKey = RenderKey.lookup(template, template.slots(), placeholders);
+        String cachedResult = cache.get(lookupKey);
+
+        if (cachedResult != null) {
+            cacheHits.incrementAndGet();
+            return cachedResult;
+        }
+
+        cacheMisses.incrementAndGet();
+        RenderKey cacheKey = lookupKey.copy();
+        String result = template.render(placeholders);
+        cache.put(cacheKey, result);
         return result;
     }
 
-    //---------------------------------------------------
-    //                 Cache Methods
-    //---------------------------------------------------
+    /**
+     * Renders every line of a lore template and translates color codes, caching
+     * the result by template and placeholder values.
+     *
+     * @param lore         The compiled lore
+     * @param placeholders Map of placeholders to replace
+     * @param cache        The cache holding rendered lore
+     * @return The formatted lore
+     */
+    private Lore renderLore(LoreTemplate lore, Map<String, String> placeholders, LRUCache<RenderKey, Lore> cache) {
+        if (lore.isStatic()) {
+            return lore.staticLore();
+        }
+
+        RenderKey lookupKey = RenderKey.lookup(lore, lore.slots(), placeholders);
+        Lore cachedLore = cache.get(lookupKey);
+        if (cachedLore != null) {
+            cacheHits.incrementAndGet();
+            return cachedLore;
+        }
+
+        cacheMisses.incrementAndGet();
+        RenderKey cacheKey = lookupKey.copy();
+        MessageTemplate[] lines = lore.lines();
+        String[] result = new String[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            result[i] = renderColored(lines[i], placeholders);
+        }
+
+        Lore rendered = new Lore(result);
+        cache.put(cacheKey, rendered);
+        return rendered;
+    }
 
     /**
-     * Clears all caches.
-     * <p>
-     * Call this method when reloading language files to prevent using stale data.
-     * </p>
+     * Renders a lore template with multiline placeholders expanded and translates
+     * color codes, caching the result by template and placeholder values.
+     *
+     * @param lore         The compiled lore
+     * @param placeholders Map of placeholders to replace
+     * @param cache        The cache holding expanded lore
+     * @return The formatted lore
      */
-    public void clearCache() {
-        formattedStringCache.clear();
-        loreCache.clear();
-        loreListCache.clear();
-        guiItemNameCache.clear();
-        guiItemLoreCache.clear();
-        guiItemLoreListCache.clear();
-        entityNameCache.clear();
-        smallCapsCache.clear();
-        materialNameCache.clear();
+    private Lore expandLore(LoreTemplate lore, Map<String, String> placeholders, LRUCache<RenderKey, Lore> cache) {
+        if (lore.isStatic()) {
+            return lore.staticLore();
+        }
+
+        RenderKey lookupKey = RenderKey.lookup(lore, lore.slots(), placeholders);
+        Lore cachedLore = cache.get(lookupKey);
+        if (cachedLore != null) {
+            cacheHits.incrementAndGet();
+            return cachedLore;
+        }
+
+        cacheMisses.incrementAndGet();
+        RenderKey cacheKey = lookupKey.copy();
+        List<String> lines = lore.renderLines(placeholders);
+        String[] result = new String[lines.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ColorUtil.translateHexColorCodes(lines.get(i));
+        }
+
+        Lore expanded = new Lore(result);
+        cache.put(cacheKey, expanded);
+        return expanded;
     }
 
     /**
-     * Generates a cache key from text and placeholders.
+     * Gets the compiled template for arbitrary text (cached).
      *
-     * @param text         The base text
-     * @param placeholders The placeholders
-     * @return The cache key
+     * @param text The source text
+     * @return The compiled template
      */
-    private String generateCacheKey(String text, Map<String, String> placeholders) {
-        if (placeholders == null || placeholders.isEmpty()) {
-            return text;
+    private MessageTemplate templateFor(String text) {
+        MessageTemplate template = templateCache.get(text);
+        if (template == null) {
+            template = MessageTemplate.compile(text);
+            templateCache.put(text, template);
         }
+        return template;
+    }
 
-        StringBuilder keyBuilder = new StringBuilder(text);
-        List<String> keys = new ArrayList<>(placeholders.keySet());
-        Collections.sort(keys);
+    //---------------------------------------------------
+    //                 Cache Methods
+    //---------------------------------------------------
 
-        for (String key : keys) {
-            keyBuilder.append('|').append(key).append('=').append(placeholders.get(key));
+    /**
+     * Clears all caches.
+     * <p>
+     * Call this method when reloading language files to prevent using stale data.
+     * </p>
+     */
+    public void clearCache() {
+        for (CompiledLocale locale : snapshot.compiled().values()) {
+            locale.caches().clear();
         }
-        return keyBuilder.toString();
+        templateCache.clear();
+        smallCapsCache.clear();
     }
 
     /**
@@ -1411,25 +3055,17 @@ public class LanguageManager {
      * @return Map containing cache statistics
      */
     public Map<String, Object> getCacheStats() {
+        LanguageSnapshot snapshot = this.snapshot;
         Map<String, Object> stats = new HashMap<>();
-        stats.put("string_cache_size", formattedStringCache.size());
-        stats.put("string_cache_capacity", formattedStringCache.capacity());
-        stats.put("lore_cache_size", loreCache.size());
-        stats.put("lore_cache_capacity", loreCache.capacity());
-        stats.put("lore_list_cache_size", loreListCache.size());
-        stats.put("lore_list_cache_capacity", loreListCache.capacity());
-        stats.put("gui_name_cache_size", guiItemNameCache.size());
-        stats.put("gui_name_cache_capacity", guiItemNameCache.capacity());
-        stats.put("gui_lore_cache_size", guiItemLoreCache.size());
-        stats.put("gui_lore_cache_capacity", guiItemLoreCache.capacity());
-        stats.put("gui_lore_list_cache_size", guiItemLoreListCache.size());
-        stats.put("gui_lore_list_cache_capacity", guiItemLoreListCache.capacity());
-        stats.put("entity_name_cache_size", entityNameCache.size());
-        stats.put("entity_name_cache_capacity", entityNameCache.capacity());
+        for (CompiledLocale locale : snapshot.compiled().values()) {
+            locale.caches().addStats(stats);
+        }
+        stats.put("loaded_locales", snapshot.compiled().size());
+        stats.put("mapped_locales", snapshot.compiled().values().stream().filter(locale -> locale.index().isMapped()).count());
+        stats.put("template_cache_size", templateCache.size());
+        stats.put("template_cache_capacity", templateCache.capacity());
         stats.put("small_caps_cache_size", smallCapsCache.size());
         stats.put("small_caps_cache_capacity", smallCapsCache.capacity());
-        stats.put("material_name_cache_size", materialNameCache.size());
-        stats.put("material_name_cache_capacity", materialNameCache.capacity());
         stats.put("cache_hits", cacheHits.get());
         stats.put("cache_misses", cacheMisses.get());
         stats.put("hit_ratio", cacheHits.get() > 0 ?
@@ -0,0 +1,119 @@
+package io.github.pluginlangcore.language;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable, complete state of a {@link LanguageManager} at one point in time.
+ * <p>
+ * A load or reload builds a new snapshot off to the side: the key indexes of the
+ * loaded locales, a {@link CompiledLocale} for each of them, and a reference to the
+ * default one. Parsed YAML trees are not kept, since nothing reads them after
+ * indexing. Each compiled locale carries over the caches of its previous version,
+ * without the entries of text that changed. The manager then publishes the snapshot
+ * with a single volatile write. Readers take one reference to the current snapshot
+ * and use it for the whole call, so they never block and never see a half-reloaded
+ * state.
+ * </p>
+ *
+ * @param defaultLocale The default locale code (e.g., "en_US")
+ * @param locales       The key indexes of the loaded locales, by locale code
+ * @param compiled      The compiled locales, by locale code
+ * @param defaults      The compiled default locale
+ * @param available     The locales that may be served, loaded or not, in configuration order
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+record LanguageSnapshot(
+        String defaultLocale,
+        Map<String, LocaleIndex> locales,
+        Map<String, CompiledLocale> compiled,
+        CompiledLocale defaults,
+        Set<String> available
+) {
+    LanguageSnapshot {
+        locales = Map.copyOf(locales);
+        compiled = Map.copyOf(compiled);
+        // Keep the configured order, it decides between locales of the same language
+        Set<String> all = new LinkedHashSet<>(available);
+        all.addAll(new TreeSet<>(compiled.keySet()));
+        available = Collections.unmodifiableSet(all);
+    }
+
+    /**
+     * Creates a copy of this snapshot with additional or replaced locales.
+     *
+     * @param addedLocales  The key indexes of the added or replaced locales
+     * @param addedCompiled The compiled added or replaced locales
+     * @return The new snapshot
+     */
+    LanguageSnapshot withLocales(Map<String, LocaleIndex> addedLocales, Map<String, CompiledLocale> addedCompiled) {
+        Map<String, LocaleIndex> newLocales = new HashMap<>(locales);
+        newLocales.putAll(addedLocales);
+        Map<String, CompiledLocale> newCompiled = new HashMap<>(compiled);
+        newCompiled.putAll(addedCompiled);
+        return new LanguageSnapshot(defaultLocale, newLocales, newCompiled, newCompiled.get(defaultLocale), available);
+    }
+
+    /**
+     * Creates a copy of this snapshot without some locales. The locales stay available.
+     *
+     * @param removed The locales to unload; the default locale is always kept
+     * @return The new snapshot
+     */
+    LanguageSnapshot withoutLocales(Set<String> removed) {
+        Map<String, LocaleIndex> newLocales = new HashMap<>(locales);
+        Map<String, CompiledLocale> newCompiled = new HashMap<>(compiled);
+        for (String locale : removed) {
+            if (!locale.equals(defaultLocale)) {
+                newLocales.remove(locale);
+                newCompiled.remove(locale);
+            }
+        }
+        return new LanguageSnapshot(defaultLocale, newLocales, newCompiled, defaults, available);
+    }
+
+    /**
+     * Finds the available locale that best matches a client locale.
+     * <p>
+     * An exact match of language and country wins (case-insensitive, so the
+     * client's {@code de_de} matches a {@code de_DE} folder). Otherwise an
+     * available locale of the same language is used, preferring the default
+     * locale and then the one configured first, and finally the default locale.
+     * </p>
+     *
+     * @param clientLocale The client locale, may be null
+     * @return The best matching locale code, which may not be loaded yet
+     */
+    String match(Locale clientLocale) {
+        if (clientLocale == null) {
+            return defaultLocale;
+        }
+
+        String code = clientLocale.toString();
+        String language = clientLocale.getLanguage();
+        String sameLanguage = isLanguage(defaultLocale, language) ? defaultLocale : null;
+        for (String candidate : available) {
+            if (candidate.equalsIgnoreCase(code)) {
+                return candidate;
+            }
+            if (sameLanguage == null && isLanguage(candidate, language)) {
+                sameLanguage = candidate;
+            }
+        }
+        return sameLanguage != null ? sameLanguage : defaultLocale;
+    }
+
+    private static boolean isLanguage(String code, String language) {
+        return !language.isEmpty()
+                && code.regionMatches(true, 0, language, 0, language.length())
+                && (code.length() == language.length() || code.charAt(language.length()) == '_');
+    }
+}
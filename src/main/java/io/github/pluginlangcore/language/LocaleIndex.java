@@ -0,0 +1,155 @@
+package io.github.pluginlangcore.language;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Flat key indexes for the four language files of a locale.
+ * <p>
+ * Built once per load or reload from the parsed language files, so that hot
+ * lookups are a single hash probe instead of a walk through the configuration tree.
+ * The language manager keeps only these indexes; the parsed configurations are
+ * dropped once indexed.
+ * </p>
+ *
+ * @param messages   Index of messages.yml
+ * @param gui        Index of gui.yml
+ * @param formatting Index of formatting.yml
+ * @param items      Index of items.yml
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+record LocaleIndex(
+        KeyIndex messages,
+        KeyIndex gui,
+        KeyIndex formatting,
+        KeyIndex items
+) {
+    /**
+     * Constructs a LocaleIndex with the specified indexes.
+     *
+     * @param messages   Index of messages.yml (must not be null)
+     * @param gui        Index of gui.yml (must not be null)
+     * @param formatting Index of formatting.yml (must not be null)
+     * @param items      Index of items.yml (must not be null)
+     * @throws NullPointerException if any parameter is null
+     */
+    LocaleIndex {
+        if (messages == null || gui == null || formatting == null || items == null) {
+            throw new NullPointerException("All index parameters must be non-null");
+        }
+    }
+
+    /**
+     * Builds the indexes for four loaded configurations.
+     *
+     * @param messages   The messages configuration
+     * @param gui        The GUI configuration
+     * @param formatting The formatting configuration
+     * @param items      The items configuration
+     * @return The indexes
+     */
+    static LocaleIndex of(YamlConfiguration messages, YamlConfiguration gui,
+                          YamlConfiguration formatting, YamlConfiguration items) {
+        return new LocaleIndex(KeyIndex.of(messages), KeyIndex.of(gui), KeyIndex.of(formatting), KeyIndex.of(items));
+    }
+
+    /**
+     * Fills the keys missing from each file with the keys of the same file of a fallback locale.
+     *
+     * @param fallback       The indexes of the fallback locale
+     * @param fallbackLocale The fallback locale code (e.g., "en_US")
+     * @return The merged indexes
+     * @see KeyIndex#withFallback(KeyIndex, String)
+     */
+    LocaleIndex withFallback(LocaleIndex fallback, String fallbackLocale) {
+        return new LocaleIndex(
+                messages.withFallback(fallback.messages, fallbackLocale),
+                gui.withFallback(fallback.gui, fallbackLocale),
+                formatting.withFallback(fallback.formatting, fallbackLocale),
+                items.withFallback(fallback.items, fallbackLocale));
+    }
+
+    /**
+     * Creates a copy whose values are stored in memory-mapped files.
+     *
+     * @param directory The directory for the backing files
+     * @return The mapped indexes
+     * @throws IOException if a file cannot be written or mapped
+     * @see KeyIndex#mapped(KeyIndex, File)
+     */
+    LocaleIndex mapped(File directory) throws IOException {
+        return new LocaleIndex(
+                KeyIndex.mapped(messages, directory),
+                KeyIndex.mapped(gui, directory),
+                KeyIndex.mapped(formatting, directory),
+                KeyIndex.mapped(items, directory));
+    }
+
+    /**
+     * Compares these indexes with an earlier version of the same locale.
+     *
+     * @param previous The earlier version
+     * @return The changed keys of each file
+     * @see KeyIndex#changedKeys(KeyIndex)
+     */
+    Changes changesSince(LocaleIndex previous) {
+        return new Changes(
+                messages.changedKeys(previous.messages),
+                gui.changedKeys(previous.gui),
+                formatting.changedKeys(previous.formatting),
+                items.changedKeys(previous.items));
+    }
+
+    /**
+     * Keeps the indexes of an earlier version for the files without changes, so
+     * that everything derived from them stays valid.
+     *
+     * @param previous The earlier version
+     * @param changes  The changes since {@code previous}
+     * @return The indexes, or {@code previous} itself if no file changed
+     */
+    LocaleIndex reuseUnchanged(LocaleIndex previous, Changes changes) {
+        if (changes.isEmpty()) {
+            return previous;
+        }
+        return new LocaleIndex(
+                changes.messages().isEmpty() ? previous.messages : messages,
+                changes.gui().isEmpty() ? previous.gui : gui,
+                changes.formatting().isEmpty() ? previous.formatting : formatting,
+                changes.items().isEmpty() ? previous.items : items);
+    }
+
+    /**
+     * Keys that were added, removed or changed in each file of a locale.
+     *
+     * @param messages   Changed keys of messages.yml
+     * @param gui        Changed keys of gui.yml
+     * @param formatting Changed keys of formatting.yml
+     * @param items      Changed keys of items.yml
+     */
+    record Changes(Set<String> messages, Set<String> gui, Set<String> formatting, Set<String> items) {
+        /**
+         * Checks whether no file changed.
+         *
+         * @return true if there are no changed keys
+         */
+        boolean isEmpty() {
+            return messages.isEmpty() && gui.isEmpty() && formatting.isEmpty() && items.isEmpty();
+        }
+    }
+
+    /**
+     * Checks whether any of the indexes is memory-mapped.
+     *
+     * @return true if an index is mapped
+     */
+    boolean isMapped() {
+        return messages.isMapped() || gui.isMapped() || formatting.isMapped() || items.isMapped();
+    }
+}
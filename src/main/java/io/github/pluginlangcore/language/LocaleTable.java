@@ -0,0 +1,397 @@
+package io.github.pluginlangcore.language;
+
+import io.github.pluginlangcore.cache.LRUCache;
+import io.github.pluginlangcore.util.ColorUtil;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Compiled, immutable lookup table for one locale.
+ * <p>
+ * Built once per load from the {@link LocaleIndex} of a locale, with the keys of its
+ * fallback locales already filled in. It holds a {@link MessageTemplate} for every
+ * string value of the messages, GUI and items files, and a
+ * {@link LoreTemplate} for every string list of the GUI and items files. Each
+ * section of the messages file is resolved into a {@link MessageEntry}, whose chat
+ * template has the prefix already prepended. Entries are also stored in an array
+ * indexed by {@link MessageKey} id. Identical source texts share one template instance.
+ * </p>
+ * <p>
+ * A table can also be {@linkplain #lazy(LocaleIndex, String) lazy}: templates and
+ * entries are then compiled on first use and only the most recently used ones are
+ * kept. Lazy tables are used for locales stored in memory-mapped indexes, so that a
+ * rarely used locale keeps little on the heap.
+ * </p>
+ * <p>
+ * When a locale is reloaded, its new table is compiled against the previous one:
+ * every text that did not change keeps its template instance. Render caches are
+ * keyed by template instance, so their entries for unchanged text stay valid and
+ * only those of replaced templates need to be dropped.
+ * </p>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class LocaleTable {
+    // Number of templates of each kind a lazy table keeps
+    private static final int LAZY_CACHE_SIZE = 128;
+
+    private final Map<String, MessageTemplate> messages;
+    private final Map<String, MessageEntry> entries;
+    private final MessageEntry[] entriesById;
+    private final Map<String, MessageTemplate> gui;
+    private final Map<String, LoreTemplate> guiLore;
+    private final Map<String, MessageTemplate> items;
+    private final Map<String, LoreTemplate> itemLore;
+
+    /**
+     * Source and caches of a lazy table, or null if the table is fully compiled.
+     */
+    private final Lazy lazy;
+
+    private LocaleTable(Map<String, MessageTemplate> messages, Map<String, MessageEntry> entries,
+                        MessageEntry[] entriesById,
+                        Map<String, MessageTemplate> gui, Map<String, LoreTemplate> guiLore,
+                        Map<String, MessageTemplate> items, Map<String, LoreTemplate> itemLore) {
+        this.messages = messages;
+        this.entries = entries;
+        this.entriesById = entriesById;
+        this.gui = gui;
+        this.guiLore = guiLore;
+        this.items = items;
+        this.itemLore = itemLore;
+        this.lazy = null;
+    }
+
+    private LocaleTable(Lazy lazy) {
+        this.messages = null;
+        this.entries = null;
+        this.entriesById = null;
+        this.gui = null;
+        this.guiLore = null;
+        this.items = null;
+        this.itemLore = null;
+        this.lazy = lazy;
+    }
+
+    /**
+     * Compiles the templates of a locale.
+     *
+     * @param index         The flat key indexes of the locale
+     * @param defaultPrefix The prefix used when messages.yml defines none
+     * @param keys          The registry assigning ids to message keys
+     * @return The compiled table
+     */
+    static LocaleTable compile(LocaleIndex index, String defaultPrefix, MessageKey.Registry keys) {
+        return compile(index, defaultPrefix, keys, null);
+    }
+
+    /**
+     * Compiles the templates of a locale, reusing the templates of a previous table
+     * for all text that did not change.
+     *
+     * @param index         The flat key indexes of the locale
+     * @param defaultPrefix The prefix used when messages.yml defines none
+     * @param keys          The registry assigning ids to message keys
+     * @param previous      The previous table of the locale, or null
+     * @return The compiled table
+     */
+    static LocaleTable compile(LocaleIndex index, String defaultPrefix, MessageKey.Registry keys,
+                               LocaleTable previous) {
+        Map<String, MessageTemplate> interned = new HashMap<>();
+        boolean reuse = previous != null && previous.lazy == null;
+        if (reuse) {
+            for (Object template : previous.templates()) {
+                if (template instanceof MessageTemplate message) {
+                    interned.put(message.source(), message);
+                }
+            }
+        }
+
+        Map<String, MessageTemplate> messages = new HashMap<>();
+        compileStrings(index.messages(), messages, null, null, interned);
+
+        String prefix = index.messages().getString("prefix", defaultPrefix);
+        Map<String, MessageEntry> entries = new HashMap<>();
+        for (String key : index.messages().keys()) {
+            if (index.messages().isSection(key)) {
+                entries.put(key, compileEntry(key, index.messages(), messages::get, prefix,
+                        source -> interned.computeIfAbsent(source, MessageTemplate::compile)));
+            }
+        }
+
+        for (String key : entries.keySet()) {
+            keys.intern(key);
+        }
+        MessageEntry[] entriesById = new MessageEntry[keys.size()];
+        for (Map.Entry<String, MessageEntry> entry : entries.entrySet()) {
+            entriesById[keys.intern(entry.getKey()).id()] = entry.getValue();
+        }
+
+        Map<String, MessageTemplate> gui = new HashMap<>();
+        Map<String, LoreTemplate> guiLore = new HashMap<>();
+        compileStrings(index.gui(), gui, guiLore, reuse ? previous.guiLore : null, interned);
+
+        Map<String, MessageTemplate> items = new HashMap<>();
+        Map<String, LoreTemplate> itemLore = new HashMap<>();
+        compileStrings(index.items(), items, itemLore, reuse ? previous.itemLore : null, interned);
+
+        return new LocaleTable(Map.copyOf(messages), Map.copyOf(entries), entriesById,
+                Map.copyOf(gui), Map.copyOf(guiLore), Map.copyOf(items), Map.copyOf(itemLore));
+    }
+
+    /**
+     * Creates a table that compiles templates and entries on first use.
+     *
+     * @param index         The flat key indexes of the locale
+     * @param defaultPrefix The prefix used when messages.yml defines none
+     * @return The lazy table
+     */
+    static LocaleTable lazy(LocaleIndex index, String defaultPrefix) {
+        return lazy(index, defaultPrefix, null);
+    }
+
+    /**
+     * Creates a table that compiles templates and entries on first use, sharing the
+     * templates compiled so far by a previous lazy table of the locale.
+     *
+     * @param index         The flat key indexes of the locale
+     * @param defaultPrefix The prefix used when messages.yml defines none
+     * @param previous      The previous table of the locale, or null
+     * @return The lazy table
+     */
+    static LocaleTable lazy(LocaleIndex index, String defaultPrefix, LocaleTable previous) {
+        Lazy shared = previous != null ? previous.lazy : null;
+        return new LocaleTable(new Lazy(index, index.messages().getString("prefix", defaultPrefix),
+                shared != null ? shared.interned : new LRUCache<>(LAZY_CACHE_SIZE * 4),
+                shared != null ? shared.internedLore : new LRUCache<>(LAZY_CACHE_SIZE)));
+    }
+
+    private static MessageEntry compileEntry(String key, KeyIndex index, Function<String, MessageTemplate> messages,
+                                             String prefix, Function<String, MessageTemplate> intern) {
+        MessageTemplate message = messages.apply(key + ".message");
+        MessageTemplate prefixedMessage = message != null ? intern.apply(prefix + message.source()) : null;
+        MessageTemplate consoleMessage = message != null
+                ? intern.apply(ColorUtil.stripAllColorCodes(message.source())) : null;
+        return new MessageEntry(
+                index.getBoolean(key + ".enabled", true),
+                message,
+                prefixedMessage,
+                consoleMessage,
+                messages.apply(key + ".title"),
+                messages.apply(key + ".subtitle"),
+                messages.apply(key + ".action_bar"),
+                index.getString(key + ".sound"));
+    }
+
+    private static void compileStrings(KeyIndex index, Map<String, MessageTemplate> strings,
+                                       Map<String, LoreTemplate> lists, Map<String, LoreTemplate> previousLists,
+                                       Map<String, MessageTemplate> interned) {
+        for (String path : index.keys()) {
+            if (index.isSection(path)) {
+                continue;
+            }
+            if (index.isList(path)) {
+                if (lists != null) {
+                    LoreTemplate lore = LoreTemplate.compile(index.getStringList(path), interned);
+                    LoreTemplate previous = previousLists != null ? previousLists.get(path) : null;
+                    lists.put(path, previous != null && previous.hasSameLines(lore) ? previous : lore);
+                }
+                continue;
+            }
+            String value = index.getString(path);
+            if (value != null) {
+                strings.put(path, interned.computeIfAbsent(value, MessageTemplate::compile));
+            }
+        }
+    }
+
+    /**
+     * Checks whether this table compiles its templates on first use.
+     *
+     * @return true if the table is lazy
+     */
+    boolean isLazy() {
+        return lazy != null;
+    }
+
+    /**
+     * Gets every message and lore template of a fully compiled table, compared by
+     * identity. Lazy tables return an empty set, as their templates come and go.
+     *
+     * @return The templates
+     */
+    Set<Object> templates() {
+        if (lazy != null) {
+            return Set.of();
+        }
+        Set<Object> templates = Collections.newSetFromMap(new IdentityHashMap<>());
+        templates.addAll(messages.values());
+        for (MessageEntry entry : entries.values()) {
+            if (entry.prefixedMessage() != null) {
+                templates.add(entry.prefixedMessage());
+                templates.add(entry.consoleMessage());
+            }
+        }
+        templates.addAll(gui.values());
+        templates.addAll(items.values());
+        for (Map<String, LoreTemplate> lists : List.of(guiLore, itemLore)) {
+            for (LoreTemplate lore : lists.values()) {
+                templates.add(lore);
+                Collections.addAll(templates, lore.lines());
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * Gets the template of a messages.yml value.
+     *
+     * @param path The full configuration path (e.g., "welcome.title")
+     * @return The template, or null if the path holds no string value
+     */
+    MessageTemplate message(String path) {
+        return lazy != null ? lazy.template(lazy.index.messages(), lazy.messages, path) : messages.get(path);
+    }
+
+    /**
+     * Gets the resolved entry of a message key.
+     *
+     * @param key The message key (e.g., "welcome")
+     * @return The entry, or null if the key is not a section of messages.yml
+     */
+    MessageEntry entry(String key) {
+        return lazy != null ? lazy.entry(key) : entries.get(key);
+    }
+
+    /**
+     * Gets the resolved entry of a message key by its handle.
+     *
+     * @param key A handle from the registry this table was compiled with
+     * @return The entry, or null if the key is not a section of messages.yml
+     */
+    MessageEntry entry(MessageKey key) {
+        if (lazy != null) {
+            return lazy.entry(key.getKey());
+        }
+        int id = key.id();
+        return id < entriesById.length ? entriesById[id] : null;
+    }
+
+    /**
+     * Gets the template of a gui.yml value.
+     *
+     * @param path The full configuration path
+     * @return The template, or null if the path holds no string value
+     */
+    MessageTemplate gui(String path) {
+        return lazy != null ? lazy.template(lazy.index.gui(), lazy.gui, path) : gui.get(path);
+    }
+
+    /**
+     * Gets the lore template of a gui.yml list.
+     *
+     * @param path The full configuration path
+     * @return The template, or null if the path holds no list
+     */
+    LoreTemplate guiLore(String path) {
+        return lazy != null ? lazy.lore(lazy.index.gui(), lazy.guiLore, path) : guiLore.get(path);
+    }
+
+    /**
+     * Gets the template of an items.yml value.
+     *
+     * @param path The full configuration path
+     * @return The template, or null if the path holds no string value
+     */
+    MessageTemplate item(String path) {
+        return lazy != null ? lazy.template(lazy.index.items(), lazy.items, path) : items.get(path);
+    }
+
+    /**
+     * Gets the lore template of an items.yml list.
+     *
+     * @param path The full configuration path
+     * @return The template, or null if the path holds no list
+     */
+    LoreTemplate itemLore(String path) {
+        return lazy != null ? lazy.lore(lazy.index.items(), lazy.itemLore, path) : itemLore.get(path);
+    }
+
+    /**
+     * Source indexes and bounded caches of a lazy table. The templates by source
+     * text are shared with the next table of the locale.
+     */
+    private static final class Lazy {
+        private final LocaleIndex index;
+        private final String prefix;
+        private final LRUCache<String, MessageTemplate> interned;
+        private final LRUCache<List<String>, LoreTemplate> internedLore;
+        private final LRUCache<String, MessageTemplate> messages = new LRUCache<>(LAZY_CACHE_SIZE);
+        private final LRUCache<String, MessageEntry> entries = new LRUCache<>(LAZY_CACHE_SIZE);
+        private final LRUCache<String, MessageTemplate> gui = new LRUCache<>(LAZY_CACHE_SIZE);
+        private final LRUCache<String, LoreTemplate> guiLore = new LRUCache<>(LAZY_CACHE_SIZE);
+        private final LRUCache<String, MessageTemplate> items = new LRUCache<>(LAZY_CACHE_SIZE);
+        private final LRUCache<String, LoreTemplate> itemLore = new LRUCache<>(LAZY_CACHE_SIZE);
+
+        private Lazy(LocaleIndex index, String prefix, LRUCache<String, MessageTemplate> interned,
+                     LRUCache<List<String>, LoreTemplate> internedLore) {
+            this.index = index;
+            this.prefix = prefix;
+            this.interned = interned;
+            this.internedLore = internedLore;
+        }
+
+        private MessageTemplate intern(String source) {
+            MessageTemplate template = interned.get(source);
+            if (template == null) {
+                template = MessageTemplate.compile(source);
+                interned.put(source, template);
+            }
+            return template;
+        }
+
+        private MessageTemplate template(KeyIndex source, LRUCache<String, MessageTemplate> cache, String path) {
+            MessageTemplate template = cache.get(path);
+            if (template == null && !source.isList(path)) {
+                String value = source.getString(path);
+                if (value != null) {
+                    template = intern(value);
+                    cache.put(path, template);
+                }
+            }
+            return template;
+        }
+
+        private LoreTemplate lore(KeyIndex source, LRUCache<String, LoreTemplate> cache, String path) {
+            LoreTemplate template = cache.get(path);
+            if (template == null && source.isList(path)) {
+                List<String> lines = source.getStringList(path);
+                template = internedLore.get(lines);
+                if (template == null) {
+                    template = LoreTemplate.compile(lines, new HashMap<>());
+                    internedLore.put(lines, template);
+                }
+                cache.put(path, template);
+            }
+            return template;
+        }
+
+        private MessageEntry entry(String key) {
+            MessageEntry entry = entries.get(key);
+            if (entry == null && index.messages().isSection(key)) {
+                entry = compileEntry(key, index.messages(), path -> template(index.messages(), messages, path),
+                        prefix, this::intern);
+                entries.put(key, entry);
+            }
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.pluginlangcore.language;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Rendered lore lines, stored once and shared by every caller.
+ * <p>
+ * Lore caches hold one instance per template and placeholder values, whether the
+ * lore is requested as a list or as an array. The list view wraps the lines
+ * without copying and cannot be modified; arrays are copied on the way out, since
+ * callers are free to modify them.
+ * </p>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class Lore {
+    private final String[] lines;
+    private final List<String> view;
+
+    /**
+     * Creates lore from rendered lines. The array is taken over and must not be
+     * modified afterwards.
+     *
+     * @param lines The rendered lines
+     */
+    Lore(String[] lines) {
+        this.lines = lines;
+        this.view = Collections.unmodifiableList(Arrays.asList(lines));
+    }
+
+    /**
+     * Gets an unmodifiable view of the lines.
+     *
+     * @return The lines as a list
+     */
+    List<String> asList() {
+        return view;
+    }
+
+    /**
+     * Copies the lines into a new array.
+     *
+     * @return A new array of the lines
+     */
+    String[] toArray() {
+        return lines.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "Lore" + view;
+    }
+}
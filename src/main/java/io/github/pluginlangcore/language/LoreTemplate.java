@@ -0,0 +1,132 @@
+package io.github.pluginlangcore.language;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A lore list compiled into one {@link MessageTemplate} per line.
+ * <p>
+ * The template also records the union of placeholders referenced by any line,
+ * in order of first occurrence. Lore caches use these slots to key rendered lore
+ * by the values that can actually change the output.
+ * </p>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class LoreTemplate {
+    private static final String[] NO_SLOTS = new String[0];
+
+    private final MessageTemplate[] lines;
+    private final String[] slots;
+
+    /**
+     * The rendered lore of a lore without placeholders, computed on first use.
+     */
+    private volatile Lore staticLore;
+
+    private LoreTemplate(MessageTemplate[] lines, String[] slots) {
+        this.lines = lines;
+        this.slots = slots;
+    }
+
+    /**
+     * Compiles lore lines into a template, reusing already compiled line templates.
+     *
+     * @param lines    The source lines
+     * @param interned Templates compiled so far for the same load, keyed by source text
+     * @return The compiled lore template
+     */
+    static LoreTemplate compile(List<String> lines, Map<String, MessageTemplate> interned) {
+        MessageTemplate[] compiled = new MessageTemplate[lines.size()];
+        LinkedHashSet<String> slots = new LinkedHashSet<>();
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = interned.computeIfAbsent(lines.get(i), MessageTemplate::compile);
+            for (String slot : compiled[i].slots()) {
+                slots.add(slot);
+            }
+        }
+        return new LoreTemplate(compiled, slots.isEmpty() ? NO_SLOTS : slots.toArray(new String[0]));
+    }
+
+    /**
+     * Checks whether another lore consists of the same line template instances.
+     *
+     * @param other The other lore
+     * @return true if both render every line with the same templates
+     */
+    boolean hasSameLines(LoreTemplate other) {
+        return Arrays.equals(lines, other.lines);
+    }
+
+    /**
+     * Checks whether no line contains placeholders.
+     *
+     * @return true if rendering always yields the same lines
+     */
+    boolean isStatic() {
+        return slots.length == 0;
+    }
+
+    /**
+     * Gets the rendered lore of a lore without placeholders, with color codes
+     * translated. It is rendered once and then returned as is.
+     *
+     * @return The rendered lore
+     * @throws IllegalStateException If the lore contains placeholders
+     */
+    Lore staticLore() {
+        if (!isStatic()) {
+            throw new IllegalStateException("Lore contains placeholders");
+        }
+        Lore lore = staticLore;
+        if (lore == null) {
+            String[] rendered = new String[lines.length];
+            for (int i = 0; i < lines.length; i++) {
+                rendered[i] = lines[i].renderColored(null);
+            }
+            lore = new Lore(rendered);
+            staticLore = lore;
+        }
+        return lore;
+    }
+
+    /**
+     * Renders every line, expanding placeholder values that contain line breaks
+     * into several lines as described in {@link MessageTemplate#renderLines(Map, List)}.
+     * Color codes are not translated.
+     *
+     * @param placeholders Map of placeholder values, may be null
+     * @return The rendered lines
+     */
+    List<String> renderLines(Map<String, String> placeholders) {
+        List<String> out = new ArrayList<>(lines.length + 4);
+        for (MessageTemplate line : lines) {
+            line.renderLines(placeholders, out);
+        }
+        return out;
+    }
+
+    /**
+     * Gets the compiled line templates. The returned array is shared and must not be modified.
+     *
+     * @return The line templates
+     */
+    MessageTemplate[] lines() {
+        return lines;
+    }
+
+    /**
+     * Gets the distinct placeholder names referenced by any line.
+     * The returned array is shared and must not be modified.
+     *
+     * @return The placeholder slot names
+     */
+    String[] slots() {
+        return slots;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.pluginlangcore.language;
+
+/**
+ * Everything needed to send one message key, resolved when the locale is compiled.
+ * <p>
+ * A message key in messages.yml is a section such as:
+ * <pre>{@code
+ * welcome:
+ *   enabled: true
+ *   message: "&aWelcome {player}!"
+ *   title: "&6Welcome"
+ *   subtitle: "&7to the server"
+ *   action_bar: "&eEnjoy your stay"
+ *   sound: "entity.player.levelup"
+ * }</pre>
+ * Sending a message fetches this entry with a single lookup instead of resolving
+ * each of these paths separately. Components that are not configured are null.
+ * </p>
+ *
+ * @param enabled         Whether the message is enabled ({@code enabled}, defaults to true)
+ * @param message         The chat message without prefix
+ * @param prefixedMessage The chat message with the prefix prepended
+ * @param consoleMessage  The chat message without prefix and with color codes stripped
+ * @param title           The title text
+ * @param subtitle        The subtitle text
+ * @param actionBar       The action bar text
+ * @param sound           The sound name
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+record MessageEntry(
+        boolean enabled,
+        MessageTemplate message,
+        MessageTemplate prefixedMessage,
+        MessageTemplate consoleMessage,
+        MessageTemplate title,
+        MessageTemplate subtitle,
+        MessageTemplate actionBar,
+        String sound
+) {
+}
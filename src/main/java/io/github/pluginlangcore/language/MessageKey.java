@@ -0,0 +1,113 @@
+package io.github.pluginlangcore.language;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interned handle for a message key, backed by a dense integer id.
+ * <p>
+ * A handle is obtained once from {@link LanguageManager#getMessageKey(String)} and
+ * can then be kept in a static field. Messages sent through a handle are fetched by
+ * indexing an array of the compiled locale, without hashing the key string.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * private static MessageKey PURCHASE_SUCCESS;
+ *
+ * public void onEnable() {
+ *     PURCHASE_SUCCESS = languageManager.getMessageKey("shop.purchase.success");
+ * }
+ *
+ * messageService.sendMessage(player, PURCHASE_SUCCESS, placeholders);
+ * }</pre>
+ * <p>
+ * Handles stay valid across reloads. A handle only applies to the
+ * {@link LanguageManager} that created it; other managers resolve it by its key string.
+ * </p>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MessageKey {
+    private final String key;
+    private final int id;
+    private final Registry registry;
+
+    private MessageKey(String key, int id, Registry registry) {
+        this.key = key;
+        this.id = id;
+        this.registry = registry;
+    }
+
+    /**
+     * Gets the message key this handle stands for.
+     *
+     * @return The message key (e.g., "shop.purchase.success")
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the dense id of this handle.
+     *
+     * @return The id, unique within the registry that created this handle
+     */
+    int id() {
+        return id;
+    }
+
+    /**
+     * Checks whether this handle was created by the given registry.
+     *
+     * @param registry The registry to check
+     * @return true if the id of this handle is valid in the registry
+     */
+    boolean belongsTo(Registry registry) {
+        return this.registry == registry;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageKey{" + key + "#" + id + "}";
+    }
+
+    /**
+     * Assigns dense ids to message keys.
+     * <p>
+     * Ids are never reused, so tables compiled before a key was interned simply
+     * do not contain it.
+     * </p>
+     */
+    static final class Registry {
+        private final Map<String, MessageKey> keys = new ConcurrentHashMap<>(128);
+        private int nextId;
+
+        /**
+         * Gets the handle of a key, assigning the next id on first use.
+         *
+         * @param key The message key
+         * @return The handle
+         */
+        MessageKey intern(String key) {
+            MessageKey handle = keys.get(key);
+            if (handle != null) {
+                return handle;
+            }
+            synchronized (this) {
+                return keys.computeIfAbsent(key, k -> new MessageKey(k, nextId++, this));
+            }
+        }
+
+        /**
+         * Gets the number of ids assigned so far.
+         *
+         * @return The number of interned keys
+         */
+        synchronized int size() {
+            return nextId;
+        }
+    }
+}
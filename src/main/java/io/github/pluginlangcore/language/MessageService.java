@@ -10,7 +10,6 @@ import org.bukkit.plugin.java.JavaPlugin;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 
 /**
  * Service class for sending formatted messages to players and console.
@@ -65,10 +64,10 @@ public class MessageService {
      */
     private final Map<String, Boolean> keyExistsCache = new ConcurrentHashMap<>(128);
 
-    // Patterns for color code stripping - precompiled for better performance
-    private static final Pattern COLOR_CODES = Pattern.compile("§[0-9a-fA-FxX]|§[0-9a-fA-F][0-9a-fA-F][0-9a-fA-F][0-9a-fA-F][0-9a-fA-F][0-9a-fA-F]|§[klmnorKLMNOR]");
-    private static final Pattern HEX_CODES = Pattern.compile("&#[0-9a-fA-F]{6}");
-    private static final Pattern AMPERSAND_CODES = Pattern.compile("&[0-9a-fA-FxXklmnorKLMNOR]");
+    /**
+     * The index the cached key existence checks were answered from.
+     */
+    private volatile KeyIndex keyExistsIndex;
 
     /**
      * Sends a message to a CommandSender with no placeholders.
@@ -118,9 +117,9 @@ public class MessageService {
     /**
      * Sends a message to a CommandSender with placeholders.
      * <p>
-     * This method validates the message key exists, retrieves the message from
-     * the language manager, and sends it to the recipient. If the recipient is
-     * a player, additional features like titles and sounds are also processed.
+     * This method resolves the message key once into its compiled entry, and sends
+     * the chat message to the recipient. If the recipient is a player, additional
+     * features like titles and sounds are sent from the same entry.
      * </p>
      *
      * @param sender       The command sender to receive the message
@@ -135,22 +134,82 @@ public class MessageService {
      * }</pre>
      */
     public void sendMessage(CommandSender sender, String key, Map<String, String> placeholders) {
-        // Validate the message key exists (using cache to avoid lookups)
-        if (!checkKeyExists(key)) {
-            plugin.getLogger().warning("Message key not found: " + key);
-            sender.sendMessage("§cMissing message key: " + key);
+        // One lookup resolves every component of the message, in the recipient's locale
+        CompiledLocale locale = localeOf(sender);
+        sendEntry(sender, key, locale, languageManager.getMessageEntry(locale, key), placeholders);
+    }
+
+    /**
+     * Sends a message to a CommandSender through an interned key handle, with no placeholders.
+     *
+     * @param sender The command sender to receive the message
+     * @param key    The message key handle
+     * @see LanguageManager#getMessageKey(String)
+     */
+    public void sendMessage(CommandSender sender, MessageKey key) {
+        sendMessage(sender, key, EMPTY_PLACEHOLDERS);
+    }
+
+    /**
+     * Sends a message to a CommandSender through an interned key handle.
+     * <p>
+     * Behaves like {@link #sendMessage(CommandSender, String, Map)}, but the message
+     * is fetched by array index instead of by hashing the key string. Obtain the
+     * handle once and keep it:
+     * <pre>{@code
+     * private static final MessageKey ITEM_RECEIVED = langManager.getMessageKey("item_received");
+     *
+     * messageService.sendMessage(sender, ITEM_RECEIVED, placeholders);
+     * }</pre>
+     *
+     * @param sender       The command sender to receive the message
+     * @param key          The message key handle
+     * @param placeholders Map of placeholders to replace in the message
+     */
+    public void sendMessage(CommandSender sender, MessageKey key, Map<String, String> placeholders) {
+        CompiledLocale locale = localeOf(sender);
+        sendEntry(sender, key.getKey(), locale, languageManager.getMessageEntry(locale, key), placeholders);
+    }
+
+    /**
+     * Gets the locale messages to a sender are rendered in: the player's own
+     * locale for players, the default locale for the console and other senders.
+     *
+     * @param sender The command sender
+     * @return The compiled locale
+     */
+    private CompiledLocale localeOf(CommandSender sender) {
+        return languageManager.localeFor(sender instanceof Player player ? player : null);
+    }
+
+    /**
+     * Sends every component of a resolved message entry.
+     *
+     * @param sender       The command sender to receive the message
+     * @param key          The message key, used for warnings
+     * @param locale       The locale the entry was resolved in
+     * @param entry        The resolved entry, or null if the key has no enabled entry
+     * @param placeholders Map of placeholders to replace in the message
+     */
+    private void sendEntry(CommandSender sender, String key, CompiledLocale locale, MessageEntry entry,
+                           Map<String, String> placeholders) {
+        if (entry == null) {
+            // Disabled messages and keys that are not message sections send nothing
+            if (!checkKeyExists(key)) {
+                plugin.getLogger().warning("Message key not found: " + key);
+                sender.sendMessage("§cMissing message key: " + key);
+            }
             return;
         }
 
-        // Get and send the chat message if it exists
-        String message = languageManager.getMessage(key, placeholders);
-        if (message != null && !message.startsWith("Missing message:")) {
-            sender.sendMessage(message);
+        // Send the chat message if it exists
+        if (entry.prefixedMessage() != null) {
+            sender.sendMessage(languageManager.render(locale, entry.prefixedMessage(), placeholders));
         }
 
         // Process player-specific features
         if (sender instanceof Player player) {
-            sendPlayerSpecificContent(player, key, placeholders);
+            sendPlayerSpecificContent(player, key, locale, entry, placeholders);
         }
     }
 
@@ -158,21 +217,38 @@ public class MessageService {
      * Check if a key exists, using cache for efficiency.
      * <p>
      * This method caches the result of key existence checks to avoid
-     * repeated lookups in the language manager.
+     * repeated lookups in the language manager. When the default messages.yml
+     * was reloaded with changes, only the results for changed keys are dropped.
      * </p>
      *
      * @param key The message key to check
      * @return true if the key exists, false otherwise
      */
     private boolean checkKeyExists(String key) {
+        KeyIndex index = languageManager.getKeyExistsIndex();
+        if (index != keyExistsIndex) {
+            syncKeyExistsCache(index);
+        }
         return keyExistsCache.computeIfAbsent(key, languageManager::keyExists);
     }
 
+    private synchronized void syncKeyExistsCache(KeyIndex index) {
+        if (index == keyExistsIndex) {
+            return;
+        }
+        if (keyExistsIndex != null) {
+            for (String key : index.changedKeys(keyExistsIndex)) {
+                keyExistsCache.remove(key);
+            }
+        }
+        keyExistsIndex = index;
+    }
+
     /**
      * Clear the key existence cache.
      * <p>
-     * Call this method when reloading language files to ensure the cache
-     * reflects the current state of language files.
+     * Reloads keep the cache up to date on their own; this method is only
+     * needed to free its memory.
      * </p>
      */
     public void clearKeyExistsCache() {
@@ -217,45 +293,17 @@ public class MessageService {
             return;
         }
 
-        // Get the message without prefix
-        String message = languageManager.getMessageForConsole(key, placeholders);
+        // Get the message without prefix and color codes
+        String message = languageManager.getConsoleMessage(key, placeholders);
 
         if (message != null && !message.startsWith("Missing message:")) {
-            // Strip all color codes for console
-            String consoleMessage = stripAllColorCodes(message);
-            plugin.getLogger().info(consoleMessage);
+            plugin.getLogger().info(message);
         } else {
             // Log a warning if we still couldn't get the message
             plugin.getLogger().warning("Failed to retrieve message for key: " + key);
         }
     }
 
-    /**
-     * Strips all types of color codes from a message for console output.
-     * <p>
-     * Handles multiple color code formats:
-     * <ul>
-     *   <li>Minecraft color codes (§a, §1, §f, etc.)</li>
-     *   <li>Hex codes (&#RRGGBB)</li>
-     *   <li>Ampersand codes (&amp;a, &amp;b, etc.)</li>
-     *   <li>Format codes (§l for bold, §o for italic, etc.)</li>
-     * </ul>
-     * </p>
-     *
-     * @param message The message with color codes
-     * @return The message without any color codes, or empty string if input is null
-     */
-    private String stripAllColorCodes(String message) {
-        if (message == null) return "";
-
-        // Process each pattern in sequence
-        String result = COLOR_CODES.matcher(message).replaceAll("");
-        result = HEX_CODES.matcher(result).replaceAll("");
-        result = AMPERSAND_CODES.matcher(result).replaceAll("");
-
-        return result;
-    }
-
     /**
      * Handles player-specific message components (title, subtitle, action bar, sound).
      * <p>
@@ -270,12 +318,15 @@ public class MessageService {
      *
      * @param player       The player to receive the content
      * @param key          The message key from the language files
+     * @param locale       The locale the entry was resolved in
+     * @param entry        The resolved entry of the message key
      * @param placeholders Map of placeholders to replace in the content
      */
-    private void sendPlayerSpecificContent(Player player, String key, Map<String, String> placeholders) {
+    private void sendPlayerSpecificContent(Player player, String key, CompiledLocale locale, MessageEntry entry,
+                                           Map<String, String> placeholders) {
         // Title and subtitle
-        String title = languageManager.getTitle(key, placeholders);
-        String subtitle = languageManager.getSubtitle(key, placeholders);
+        String title = entry.title() != null ? languageManager.render(locale, entry.title(), placeholders) : null;
+        String subtitle = entry.subtitle() != null ? languageManager.render(locale, entry.subtitle(), placeholders) : null;
         if (title != null || subtitle != null) {
             player.sendTitle(
                     title != null ? title : "",
@@ -285,16 +336,15 @@ public class MessageService {
         }
 
         // Action bar
-        String actionBar = languageManager.getActionBar(key, placeholders);
-        if (actionBar != null) {
+        if (entry.actionBar() != null) {
             player.spigot().sendMessage(
                     ChatMessageType.ACTION_BAR,
-                    TextComponent.fromLegacyText(actionBar)
+                    TextComponent.fromLegacyText(languageManager.render(locale, entry.actionBar(), placeholders))
             );
         }
 
         // Sound
-        String soundName = languageManager.getSound(key);
+        String soundName = entry.sound();
         if (soundName != null) {
             try {
                 player.playSound(player.getLocation(), soundName, 1.0f, 1.0f);
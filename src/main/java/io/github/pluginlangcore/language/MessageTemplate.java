@@ -0,0 +1,345 @@
+package io.github.pluginlangcore.language;
+
+import io.github.pluginlangcore.util.ColorUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A message compiled into literal segments and placeholder slots.
+ * <p>
+ * Compiling scans the source text once for {@code {name}} placeholders. Rendering
+ * is then a single pass over the segments into a presized {@link StringBuilder},
+ * looking up only the placeholders the template actually references. Placeholders
+ * without a supplied value are kept verbatim, as {@link String#replace} did before.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>{@code
+ * MessageTemplate template = MessageTemplate.compile("&aWelcome {player}! You have {amount} coins");
+ * template.slots();                                        // ["player", "amount"]
+ * template.render(Map.of("player", "Steve", "amount", "5")); // "&aWelcome Steve! You have 5 coins"
+ * }</pre>
+ * <p>
+ * Templates are immutable and safe to share between threads. Template identity is
+ * used as part of cache keys, so the same compiled instance should be reused for
+ * the same source text.
+ * </p>
+ * <p>
+ * {@link #renderColored(Map)} renders with color codes translated. The literal
+ * segments are translated once and reused, so only placeholder values that
+ * contain codes are translated per render.
+ * </p>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class MessageTemplate {
+    private static final String[] NO_SLOTS = new String[0];
+    private static final int[] NO_REFERENCES = new int[0];
+    private static final String[] UNCOLORABLE = new String[0];
+
+    private final String source;
+    private final String[] literals;
+    private final int[] references;
+    private final String[] slots;
+    private final int literalLength;
+
+    /**
+     * The literals with color codes translated, or {@link #UNCOLORABLE} if a code
+     * may continue into a placeholder value. Computed on first use.
+     */
+    private volatile String[] coloredLiterals;
+
+    private MessageTemplate(String source, String[] literals, int[] references, String[] slots) {
+        this.source = source;
+        this.literals = literals;
+        this.references = references;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles text into a template.
+     *
+     * @param source The source text (must not be null)
+     * @return The compiled template
+     */
+    static MessageTemplate compile(String source) {
+        int start = source.indexOf('{');
+        if (start < 0) {
+            return new MessageTemplate(source, new String[]{source}, NO_REFERENCES, NO_SLOTS);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>(4);
+        int[] references = new int[4];
+        int referenceCount = 0;
+        int literalStart = 0;
+
+        while (start >= 0) {
+            int end = source.indexOf('}', start + 1);
+            if (end < 0) {
+                break;
+            }
+            // For input like "{a{b}" the placeholder is the innermost "{b}"
+            int open = source.lastIndexOf('{', end - 1);
+            String name = source.substring(open + 1, end);
+            int slot = slots.indexOf(name);
+            if (slot < 0) {
+                slot = slots.size();
+                slots.add(name);
+            }
+
+            literals.add(source.substring(literalStart, open));
+            if (referenceCount == references.length) {
+                int[] grown = new int[referenceCount * 2];
+                System.arraycopy(references, 0, grown, 0, referenceCount);
+                references = grown;
+            }
+            references[referenceCount++] = slot;
+            literalStart = end + 1;
+            start = source.indexOf('{', literalStart);
+        }
+
+        if (referenceCount == 0) {
+            return new MessageTemplate(source, new String[]{source}, NO_REFERENCES, NO_SLOTS);
+        }
+
+        literals.add(source.substring(literalStart));
+        int[] trimmed = new int[referenceCount];
+        System.arraycopy(references, 0, trimmed, 0, referenceCount);
+        return new MessageTemplate(source, literals.toArray(new String[0]), trimmed, slots.toArray(new String[0]));
+    }
+
+    /**
+     * Gets the source text this template was compiled from.
+     *
+     * @return The source text
+     */
+    String source() {
+        return source;
+    }
+
+    /**
+     * Gets the distinct placeholder names referenced by this template, in order of
+     * first occurrence. The returned array is shared and must not be modified.
+     *
+     * @return The placeholder slot names
+     */
+    String[] slots() {
+        return slots;
+    }
+
+    /**
+     * Checks whether this template contains no placeholders.
+     *
+     * @return true if rendering always yields the source text
+     */
+    boolean isStatic() {
+        return references.length == 0;
+    }
+
+    /**
+     * Renders this template with the given placeholder values.
+     *
+     * @param placeholders Map of placeholder values, may be null
+     * @return The rendered text
+     */
+    String render(Map<String, String> placeholders) {
+        if (references.length == 0 || placeholders == null || placeholders.isEmpty()) {
+            return source;
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + references.length * 16);
+        for (int i = 0; i < references.length; i++) {
+            builder.append(literals[i]);
+            String name = slots[references[i]];
+            String value = placeholders.get(name);
+            if (value != null) {
+                builder.append(value);
+            } else {
+                builder.append('{').append(name).append('}');
+            }
+        }
+        builder.append(literals[references.length]);
+        return builder.toString();
+    }
+
+    /**
+     * Translates the color codes of the literal segments now instead of on the
+     * first colored render.
+     */
+    void precolor() {
+        coloredLiterals();
+    }
+
+    /**
+     * Renders this template with the given placeholder values and translates
+     * color codes.
+     * <p>
+     * The result equals translating the output of {@link #render(Map)}, provided
+     * no color code spans a placeholder boundary; a placeholder value is translated
+     * on its own, and only if it contains an ampersand. Templates whose literal text
+     * ends in an incomplete code right before a placeholder, such as
+     * {@code "&{color}"}, are rendered and then translated as a whole.
+     * </p>
+     *
+     * @param placeholders Map of placeholder values, may be null
+     * @return The rendered text with color codes translated
+     */
+    String renderColored(Map<String, String> placeholders) {
+        String[] colored = coloredLiterals();
+        if (colored == UNCOLORABLE) {
+            return ColorUtil.translateHexColorCodes(render(placeholders));
+        }
+        if (references.length == 0) {
+            return colored[0];
+        }
+
+        boolean hasPlaceholders = placeholders != null && !placeholders.isEmpty();
+        StringBuilder builder = new StringBuilder(literalLength + references.length * 16);
+        for (int i = 0; i < references.length; i++) {
+            builder.append(colored[i]);
+            String name = slots[references[i]];
+            String value = hasPlaceholders ? placeholders.get(name) : null;
+            if (value == null) {
+                value = '{' + name + '}';
+            }
+            builder.append(value.indexOf('&') >= 0 ? ColorUtil.translateHexColorCodes(value) : value);
+        }
+        builder.append(colored[references.length]);
+        return builder.toString();
+    }
+
+    private String[] coloredLiterals() {
+        String[] colored = coloredLiterals;
+        if (colored == null) {
+            colored = translateLiterals();
+            coloredLiterals = colored;
+        }
+        return colored;
+    }
+
+    private String[] translateLiterals() {
+        String[] colored = new String[literals.length];
+        for (int i = 0; i < literals.length; i++) {
+            // The last literal is not followed by a placeholder
+            if (i < references.length && endsWithPartialCode(literals[i])) {
+                return UNCOLORABLE;
+            }
+            colored[i] = ColorUtil.translateHexColorCodes(literals[i]);
+        }
+        return colored;
+    }
+
+    /**
+     * Checks whether text ends in "&amp;" or in "&amp;#" followed by fewer than six hex digits.
+     */
+    private static boolean endsWithPartialCode(String text) {
+        int index = text.lastIndexOf('&');
+        if (index < 0 || text.length() - index > 7) {
+            return false;
+        }
+        if (index == text.length() - 1) {
+            return true;
+        }
+        if (text.charAt(index + 1) != '#') {
+            return false;
+        }
+        for (int i = index + 2; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Renders this template into one or more lines, expanding placeholder values
+     * that contain line breaks.
+     * <p>
+     * A line without multiline values renders like {@link #render(Map)}. Otherwise
+     * the line is rendered once per multiline placeholder: the first line of the
+     * value takes the placeholder's place, and each further line of the value
+     * becomes a line of its own, prefixed with the text rendered before the
+     * placeholder's first occurrence. Other multiline placeholders are kept
+     * verbatim in that rendering.
+     * </p>
+     *
+     * @param placeholders Map of placeholder values, may be null
+     * @param out          The list the rendered lines are added to
+     */
+    void renderLines(Map<String, String> placeholders, List<String> out) {
+        if (references.length == 0 || placeholders == null || placeholders.isEmpty()) {
+            out.add(source);
+            return;
+        }
+
+        String[] values = new String[slots.length];
+        boolean multiline = false;
+        for (int i = 0; i < slots.length; i++) {
+            values[i] = placeholders.get(slots[i]);
+            multiline |= isMultiline(values[i]);
+        }
+        if (!multiline) {
+            out.add(render(placeholders));
+            return;
+        }
+
+        for (int slot = 0; slot < slots.length; slot++) {
+            if (isMultiline(values[slot])) {
+                expand(values, slot, out);
+            }
+        }
+    }
+
+    private void expand(String[] values, int slot, List<String> out) {
+        String[] valueLines = values[slot].split("\n");
+        if (valueLines.length == 0) {
+            valueLines = new String[]{""};
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + references.length * 16);
+        int prefixLength = -1;
+        for (int i = 0; i < references.length; i++) {
+            builder.append(literals[i]);
+            int reference = references[i];
+            String value = values[reference];
+            if (reference == slot) {
+                if (prefixLength < 0) {
+                    prefixLength = builder.length();
+                }
+                builder.append(valueLines[0]);
+            } else if (value != null && !isMultiline(value)) {
+                builder.append(value);
+            } else {
+                builder.append('{').append(slots[reference]).append('}');
+            }
+        }
+        builder.append(literals[references.length]);
+        out.add(builder.toString());
+
+        // Continuation lines share the builder's prefix
+        for (int i = 1; i < valueLines.length; i++) {
+            builder.setLength(prefixLength);
+            out.add(builder.append(valueLines[i]).toString());
+        }
+    }
+
+    private static boolean isMultiline(String value) {
+        return value != null && value.indexOf('\n') >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageTemplate{" + source + "}";
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.pluginlangcore.language;
+
+import lombok.RequiredArgsConstructor;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Listener that keeps the per-player locales of a {@link LanguageManager} current.
+ * <p>
+ * When a player changes the client language, the player's messages switch to the
+ * matching loaded locale. When a player leaves, the cached locale is dropped.
+ * {@link io.github.pluginlangcore.LanguageSystem} registers this listener itself;
+ * register it manually only when using a {@link LanguageManager} directly:
+ * <pre>{@code
+ * getServer().getPluginManager().registerEvents(new PlayerLocaleListener(languageManager), this);
+ * }</pre>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class PlayerLocaleListener implements Listener {
+    private final LanguageManager languageManager;
+
+    /**
+     * Re-resolves the player's locale when the client language changes.
+     *
+     * @param event The locale change event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLocaleChange(PlayerLocaleChangeEvent event) {
+        languageManager.updatePlayerLocale(event.getPlayer(), event.locale());
+    }
+
+    /**
+     * Drops the cached locale of a leaving player.
+     *
+     * @param event The quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        languageManager.forgetPlayer(event.getPlayer());
+    }
+}
@@ -0,0 +1,226 @@
+package io.github.pluginlangcore.language;
+
+import io.github.pluginlangcore.language.LanguageManager.LanguageFileType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Inlines static references to other keys into the values of a locale.
+ * <p>
+ * A reference {@code {@file.key}} is replaced by the text of {@code key} in the
+ * language file {@code file} ({@code messages}, {@code gui}, {@code formatting} or
+ * {@code items}). Without a file name, the key is looked up in messages.yml, so
+ * {@code {@prefix}} is the message prefix. This lets translators keep shared
+ * fragments such as currency symbols or headers in one place:
+ * <pre>{@code
+ * # formatting.yml
+ * currency: "&6⛃"
+ *
+ * # messages.yml
+ * balance:
+ *   message: "&7Balance: {amount}{@formatting.currency}"
+ * }</pre>
+ * <p>
+ * References are resolved once per load, after the fallback chain has been applied,
+ * so the referenced text becomes part of the compiled literal text and costs
+ * nothing when rendering. Referenced text may contain references itself. A
+ * reference to a key without a text value, or one that would form a cycle, is
+ * logged and left as written.
+ * </p>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ReferenceResolver {
+    private static final String REFERENCE_START = "{@";
+
+    private final Map<LanguageFileType, KeyIndex> indexes = new EnumMap<>(LanguageFileType.class);
+    private final String locale;
+    private final Logger logger;
+
+    // Resolved text by key, and the keys whose text is being resolved
+    private final Map<Target, String> resolved = new HashMap<>();
+    private final Set<Target> resolving = new HashSet<>();
+
+    /**
+     * A key of one of the language files.
+     */
+    private record Target(LanguageFileType file, String path) {
+        @Override
+        public String toString() {
+            return file.getFileName() + " key '" + path + "'";
+        }
+    }
+
+    private ReferenceResolver(LocaleIndex index, String locale, Logger logger) {
+        indexes.put(LanguageFileType.MESSAGES, index.messages());
+        indexes.put(LanguageFileType.GUI, index.gui());
+        indexes.put(LanguageFileType.FORMATTING, index.formatting());
+        indexes.put(LanguageFileType.ITEMS, index.items());
+        this.locale = locale;
+        this.logger = logger;
+    }
+
+    /**
+     * Resolves the references in every value of a locale.
+     *
+     * @param index  The flattened indexes of the locale
+     * @param locale The locale code, for log messages
+     * @param logger The logger for unresolvable references
+     * @return The indexes with references inlined, or {@code index} itself if there are none
+     */
+    static LocaleIndex resolve(LocaleIndex index, String locale, Logger logger) {
+        ReferenceResolver resolver = new ReferenceResolver(index, locale, logger);
+        KeyIndex messages = resolver.resolveFile(LanguageFileType.MESSAGES);
+        KeyIndex gui = resolver.resolveFile(LanguageFileType.GUI);
+        KeyIndex formatting = resolver.resolveFile(LanguageFileType.FORMATTING);
+        KeyIndex items = resolver.resolveFile(LanguageFileType.ITEMS);
+        if (messages == index.messages() && gui == index.gui()
+                && formatting == index.formatting() && items == index.items()) {
+            return index;
+        }
+        return new LocaleIndex(messages, gui, formatting, items);
+    }
+
+    private KeyIndex resolveFile(LanguageFileType file) {
+        KeyIndex index = indexes.get(file);
+        Map<String, Object> replaced = new HashMap<>();
+        for (String path : index.keys()) {
+            if (index.isList(path)) {
+                List<String> lines = index.getStringList(path);
+                List<String> resolvedLines = null;
+                for (int i = 0; i < lines.size(); i++) {
+                    String line = lines.get(i);
+                    String resolvedLine = inline(line, new Target(file, path));
+                    if (resolvedLine != line) {
+                        if (resolvedLines == null) {
+                            resolvedLines = new ArrayList<>(lines);
+                        }
+                        resolvedLines.set(i, resolvedLine);
+                    }
+                }
+                if (resolvedLines != null) {
+                    replaced.put(path, List.copyOf(resolvedLines));
+                }
+            } else if (!index.isSection(path)) {
+                String value = index.getString(path);
+                if (value != null && value.contains(REFERENCE_START)) {
+                    String resolvedValue = textOf(new Target(file, path));
+                    if (!resolvedValue.equals(value)) {
+                        replaced.put(path, resolvedValue);
+                    }
+                }
+            }
+        }
+        return replaced.isEmpty() ? index : index.withValues(replaced);
+    }
+
+    /**
+     * Gets the text of a key with its references resolved.
+     *
+     * @param target The key
+     * @return The resolved text, or null if the key holds no text value
+     */
+    private String textOf(Target target) {
+        String text = resolved.get(target);
+        if (text != null) {
+            return text;
+        }
+
+        KeyIndex index = indexes.get(target.file());
+        if (index.isSection(target.path()) || index.isList(target.path())) {
+            return null;
+        }
+        String value = index.getString(target.path());
+        if (value == null) {
+            return null;
+        }
+
+        resolving.add(target);
+        try {
+            text = inline(value, target);
+        } finally {
+            resolving.remove(target);
+        }
+        resolved.put(target, text);
+        return text;
+    }
+
+    /**
+     * Replaces the references in one text.
+     *
+     * @param text The text
+     * @param from The key the text belongs to, for log messages
+     * @return The text with references inlined, or {@code text} itself if it has none
+     */
+    private String inline(String text, Target from) {
+        int start = text.indexOf(REFERENCE_START);
+        if (start < 0) {
+            return text;
+        }
+
+        StringBuilder builder = null;
+        int copied = 0;
+        while (start >= 0) {
+            int end = text.indexOf('}', start + REFERENCE_START.length());
+            if (end < 0) {
+                break;
+            }
+            String name = text.substring(start + REFERENCE_START.length(), end);
+            if (name.isEmpty() || name.indexOf('{') >= 0) {
+                // Not a reference, or an inner one such as "{@a{@b}" which is handled next
+                start = text.indexOf(REFERENCE_START, start + REFERENCE_START.length());
+                continue;
+            }
+
+            Target target = targetOf(name);
+            String value = null;
+            if (resolving.contains(target)) {
+                logger.warning("Circular language reference {@" + name + "} in " + from
+                        + " of locale " + locale + ", leaving it unresolved");
+            } else {
+                value = textOf(target);
+                if (value == null) {
+                    logger.warning("Unknown language reference {@" + name + "} in " + from
+                            + " of locale " + locale + ", leaving it unresolved");
+                }
+            }
+
+            if (value != null) {
+                if (builder == null) {
+                    builder = new StringBuilder(text.length() + value.length());
+                }
+                builder.append(text, copied, start).append(value);
+                copied = end + 1;
+            }
+            start = text.indexOf(REFERENCE_START, end + 1);
+        }
+
+        if (builder == null) {
+            return text;
+        }
+        return builder.append(text, copied, text.length()).toString();
+    }
+
+    private static Target targetOf(String name) {
+        int dot = name.indexOf('.');
+        if (dot > 0) {
+            String file = name.substring(0, dot).toUpperCase(Locale.ROOT);
+            for (LanguageFileType fileType : LanguageFileType.values()) {
+                if (fileType.name().equals(file)) {
+                    return new Target(fileType, name.substring(dot + 1));
+                }
+            }
+        }
+        return new Target(LanguageFileType.MESSAGES, name);
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.pluginlangcore.language;
+
+import io.github.pluginlangcore.cache.EvictionPolicy;
+import io.github.pluginlangcore.cache.LRUCache;
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caches of rendered text that depend on the loaded language files.
+ * <p>
+ * Every {@link CompiledLocale} owns its own set. When a locale is reloaded, the new
+ * one takes over the caches keyed by template from the previous one, since its
+ * unchanged text keeps the same templates; only entries of replaced templates are
+ * dropped. The name caches are keyed by type rather than by template, so they are
+ * started afresh when the keys they are built from change.
+ * </p>
+ *
+ * @param formattedStrings  Rendered messages and names with colors translated
+ * @param plainStrings      Rendered messages with placeholders applied only
+ * @param consoleStrings    Rendered console messages with color codes stripped
+ * @param itemLore          Rendered items.yml lore
+ * @param expandedItemLore  Rendered items.yml lore with multiline placeholders expanded
+ * @param guiItemNames      Rendered gui.yml item names
+ * @param guiItemLore       Rendered gui.yml lore
+ * @param expandedGuiLore   Rendered gui.yml lore with multiline placeholders expanded
+ * @param entityNames       Formatted entity names
+ * @param materialNames     Formatted vanilla item names
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+record RenderCaches(
+        LRUCache<RenderKey, String> formattedStrings,
+        LRUCache<RenderKey, String> plainStrings,
+        LRUCache<RenderKey, String> consoleStrings,
+        LRUCache<RenderKey, Lore> itemLore,
+        LRUCache<RenderKey, Lore> expandedItemLore,
+        LRUCache<RenderKey, String> guiItemNames,
+        LRUCache<RenderKey, Lore> guiItemLore,
+        LRUCache<RenderKey, Lore> expandedGuiLore,
+        LRUCache<EntityType, String> entityNames,
+        LRUCache<Material, String> materialNames
+) {
+    private static final int DEFAULT_STRING_CACHE_SIZE = 1000;
+    private static final int DEFAULT_CONSOLE_CACHE_SIZE = 250;
+    private static final int DEFAULT_LORE_CACHE_SIZE = 250;
+    private static final int DEFAULT_NAME_CACHE_SIZE = 250;
+
+    /**
+     * Policy for caches keyed by rendered text and placeholder values. These see
+     * one-off values (coordinates, balances) mixed with templates rendered constantly,
+     * so frequency-based admission keeps the hot entries from being flushed.
+     */
+    static final EvictionPolicy RENDER_CACHE_POLICY = EvictionPolicy.TINY_LFU;
+
+    /**
+     * Policy for caches keyed by a small, bounded set of names (entities, materials).
+     */
+    static final EvictionPolicy NAME_CACHE_POLICY = EvictionPolicy.LRU;
+
+    /**
+     * Creates a set of empty caches with the default capacities.
+     *
+     * @return The new caches
+     */
+    static RenderCaches create() {
+        return new RenderCaches(
+                new LRUCache<>(DEFAULT_STRING_CACHE_SIZE, RENDER_CACHE_POLICY),
+                new LRUCache<>(DEFAULT_STRING_CACHE_SIZE, RENDER_CACHE_POLICY),
+                new LRUCache<>(DEFAULT_CONSOLE_CACHE_SIZE, RENDER_CACHE_POLICY),
+                new LRUCache<>(DEFAULT_LORE_CACHE_SIZE, RENDER_CACHE_POLICY),
+                new LRUCache<>(DEFAULT_LORE_CACHE_SIZE, RENDER_CACHE_POLICY),
+                new LRUCache<>(DEFAULT_STRING_CACHE_SIZE, RENDER_CACHE_POLICY),
+                new LRUCache<>(DEFAULT_LORE_CACHE_SIZE, RENDER_CACHE_POLICY),
+                new LRUCache<>(DEFAULT_LORE_CACHE_SIZE, RENDER_CACHE_POLICY),
+                new LRUCache<>(DEFAULT_NAME_CACHE_SIZE, NAME_CACHE_POLICY),
+                new LRUCache<>(DEFAULT_NAME_CACHE_SIZE, NAME_CACHE_POLICY)
+        );
+    }
+
+    /**
+     * Creates the caches of a recompiled locale from those of its previous version.
+     * <p>
+     * The caches keyed by template are shared. Entries of templates that are no
+     * longer used are removed; readers still holding the previous version may add
+     * such entries again, but nothing looks them up and they are evicted in time.
+     * </p>
+     *
+     * @param deadTemplates        Templates of the previous version that the new one no longer uses
+     * @param entityNamesChanged   Whether keys the entity names are built from changed
+     * @param materialNamesChanged Whether keys the material names are built from changed
+     * @return The caches for the new version
+     */
+    RenderCaches carryOver(Set<Object> deadTemplates, boolean entityNamesChanged, boolean materialNamesChanged) {
+        if (!deadTemplates.isEmpty()) {
+            for (LRUCache<RenderKey, ?> cache : List.of(formattedStrings, plainStrings, consoleStrings, itemLore, expandedItemLore,
+                    guiItemNames, guiItemLore, expandedGuiLore)) {
+                cache.removeIf(key -> deadTemplates.contains(key.template()));
+            }
+        }
+        return new RenderCaches(formattedStrings, plainStrings, consoleStrings, itemLore, expandedItemLore,
+                guiItemNames, guiItemLore, expandedGuiLore,
+                entityNamesChanged ? new LRUCache<>(DEFAULT_NAME_CACHE_SIZE, NAME_CACHE_POLICY) : entityNames,
+                materialNamesChanged ? new LRUCache<>(DEFAULT_NAME_CACHE_SIZE, NAME_CACHE_POLICY) : materialNames);
+    }
+
+    /**
+     * Clears every cache.
+     */
+    void clear() {
+        formattedStrings.clear();
+        plainStrings.clear();
+        consoleStrings.clear();
+        itemLore.clear();
+        expandedItemLore.clear();
+        guiItemNames.clear();
+        guiItemLore.clear();
+        expandedGuiLore.clear();
+        entityNames.clear();
+        materialNames.clear();
+    }
+
+    /**
+     * Adds the size and capacity of every cache to a statistics map, summing
+     * with values already present so that the caches of all locales add up.
+     *
+     * @param stats The map to add the statistics to
+     */
+    void addStats(Map<String, Object> stats) {
+        add(stats, "string_cache_size", formattedStrings.size());
+        add(stats, "string_cache_capacity", formattedStrings.capacity());
+        add(stats, "plain_string_cache_size", plainStrings.size());
+        add(stats, "plain_string_cache_capacity", plainStrings.capacity());
+        add(stats, "console_string_cache_size", consoleStrings.size());
+        add(stats, "console_string_cache_capacity", consoleStrings.capacity());
+        add(stats, "lore_cache_size", itemLore.size());
+        add(stats, "lore_cache_capacity", itemLore.capacity());
+        add(stats, "expanded_lore_cache_size", expandedItemLore.size());
+        add(stats, "expanded_lore_cache_capacity", expandedItemLore.capacity());
+        add(stats, "gui_name_cache_size", guiItemNames.size());
+        add(stats, "gui_name_cache_capacity", guiItemNames.capacity());
+        add(stats, "gui_lore_cache_size", guiItemLore.size());
+        add(stats, "gui_lore_cache_capacity", guiItemLore.capacity());
+        add(stats, "expanded_gui_lore_cache_size", expandedGuiLore.size());
+        add(stats, "expanded_gui_lore_cache_capacity", expandedGuiLore.capacity());
+        add(stats, "entity_name_cache_size", entityNames.size());
+        add(stats, "entity_name_cache_capacity", entityNames.capacity());
+        add(stats, "material_name_cache_size", materialNames.size());
+        add(stats, "material_name_cache_capacity", materialNames.capacity());
+    }
+
+    private static void add(Map<String, Object> stats, String name, int value) {
+        stats.merge(name, value, (a, b) -> (Integer) a + (Integer) b);
+    }
+}
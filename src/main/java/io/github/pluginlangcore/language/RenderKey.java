@@ -0,0 +1,125 @@
+package io.github.pluginlangcore.language;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Composite cache key for rendered text: a template identity plus the values
+ * of the placeholders the template references, in the template's slot order.
+ * <p>
+ * The hash is computed once while the key is filled, and equality compares the
+ * template and the values slot by slot. Placeholder names and separators are not
+ * part of the key, so values containing {@code |} or {@code =} can no longer
+ * collide with other placeholder combinations.
+ * </p>
+ * <p>
+ * Lookups go through a per-thread reusable instance obtained from
+ * {@link #lookup(Object, String[], Map)}, so a cache hit allocates nothing. The
+ * lookup instance must be converted with {@link #copy()} before it is stored in a
+ * cache, and must not be used after any other call that may perform a lookup on the
+ * same thread.
+ * </p>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class RenderKey {
+    private static final String[] NO_VALUES = new String[0];
+    private static final ThreadLocal<RenderKey> LOOKUP = ThreadLocal.withInitial(RenderKey::new);
+
+    private Object template;
+    private String[] values;
+    private int size;
+    private int hash;
+
+    private RenderKey() {
+        this.values = NO_VALUES;
+    }
+
+    private RenderKey(Object template, String[] values, int hash) {
+        this.template = template;
+        this.values = values;
+        this.size = values.length;
+        this.hash = hash;
+    }
+
+    /**
+     * Fills this thread's reusable lookup key.
+     *
+     * @param template     The template identity (source text, message key, or compiled template)
+     * @param slots        The placeholder names referenced by the template, in slot order
+     * @param placeholders The placeholder values supplied by the caller, may be null
+     * @return The reusable lookup key for the current thread
+     */
+    static RenderKey lookup(Object template, String[] slots, Map<String, String> placeholders) {
+        RenderKey key = LOOKUP.get();
+        int slotCount = slots.length;
+        if (key.values.length < slotCount) {
+            key.values = new String[Math.max(slotCount, 8)];
+        }
+
+        int h = template.hashCode();
+        boolean hasPlaceholders = placeholders != null && !placeholders.isEmpty();
+        for (int i = 0; i < slotCount; i++) {
+            String value = hasPlaceholders ? placeholders.get(slots[i]) : null;
+            key.values[i] = value;
+            h = 31 * h + (value == null ? 0 : value.hashCode());
+        }
+
+        key.template = template;
+        key.size = slotCount;
+        key.hash = h;
+        return key;
+    }
+
+    /**
+     * Creates an immutable copy of this key that is safe to store in a cache.
+     *
+     * @return An immutable key with the same template, values and hash
+     */
+    RenderKey copy() {
+        String[] copied = size == 0 ? NO_VALUES : Arrays.copyOf(values, size);
+        return new RenderKey(template, copied, hash);
+    }
+
+    /**
+     * Gets the template identity of this key.
+     *
+     * @return The template identity
+     */
+    Object template() {
+        return template;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RenderKey other)) {
+            return false;
+        }
+        if (hash != other.hash || size != other.size || !template.equals(other.template)) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            String a = values[i];
+            String b = other.values[i];
+            if (a == null ? b != null : !a.equals(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "RenderKey{" + template + ", " + Arrays.toString(Arrays.copyOf(values, size)) + "}";
+    }
+}
@@ -3,14 +3,18 @@
  * <p>
  * This package contains the core language management system including:
  * <ul>
- *   <li>Multi-language file support</li>
+ *   <li>Multi-language file support with per-player locales</li>
  *   <li>Message formatting and placeholder replacement</li>
+ *   <li>Static references between keys, such as {@code {@formatting.currency}}</li>
  *   <li>Player message delivery with titles, sounds, and action bars</li>
  *   <li>Console logging with color code stripping</li>
+ *   <li>Hot reload of edited language files</li>
  * </ul>
  *
  * @see io.github.pluginlangcore.language.LanguageManager
  * @see io.github.pluginlangcore.language.MessageService
+ * @see io.github.pluginlangcore.language.PlayerLocaleListener
+ * @see io.github.pluginlangcore.language.LanguageFileWatcher
  * @since 1.0.0
  */
 package io.github.pluginlangcore.language;
\ No newline at end of file
@@ -1,5 +1,6 @@
 package io.github.pluginlangcore.updater;
 
+import io.github.pluginlangcore.util.ParallelTasks;
 import lombok.Getter;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -157,10 +158,13 @@ public class LanguageUpdater {
      *   <li>Preserves user customizations</li>
      *   <li>Creates backups when necessary</li>
      * </ul>
+     * Every file is independent of the others, so all languages and file types are
+     * checked in parallel; the method returns once all of them are done.
      * This method is called automatically in the constructor but can be called
      * manually to force a re-check and update.
      */
     public void checkAndUpdateLanguageFiles() {
+        List<Runnable> tasks = new ArrayList<>(supportedLanguages.size() * activeFileTypes.size());
         for (String language : supportedLanguages) {
             File langDir = new File(plugin.getDataFolder(), "language/" + language);
 
@@ -172,9 +176,10 @@ public class LanguageUpdater {
             // Check and update each language file type
             for (LanguageFileType fileType : activeFileTypes) {
                 File languageFile = new File(langDir, fileType.getFileName());
-                updateLanguageFile(language, languageFile, fileType);
+                tasks.add(() -> updateLanguageFile(language, languageFile, fileType));
             }
         }
+        ParallelTasks.runAll(tasks);
     }
 
     /**
@@ -2,14 +2,13 @@ package io.github.pluginlangcore.util;
 
 import org.bukkit.ChatColor;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Utility class for handling color code translations in Minecraft text.
  * <p>
  * Supports both legacy ampersand color codes (&amp;) and modern hex color codes (&amp;#RRGGBB).
  * This class handles the conversion of these codes to their Minecraft-compatible formats.
+ * Both kinds of codes are translated in a single scan over the message, without regular
+ * expressions or intermediate color objects.
  *
  * @author PluginLangCore Team
  * @version 1.0.0
@@ -18,10 +17,10 @@ import java.util.regex.Pattern;
 public final class ColorUtil {
 
     /**
-     * Pattern to match hex color codes in the format &amp;#RRGGBB.
-     * Example: &amp;#FF5733 for an orange color
+     * Characters that form a legacy color or format code after an ampersand,
+     * as accepted by {@link ChatColor#translateAlternateColorCodes(char, String)}.
      */
-    private static final Pattern HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
+    private static final String LEGACY_CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
 
     /**
      * Private constructor to prevent instantiation.
@@ -53,21 +52,7 @@ public final class ColorUtil {
         if (message == null) {
             return null;
         }
-
-        // Convert hex color codes (&#RRGGBB format)
-        Matcher matcher = HEX_PATTERN.matcher(message);
-        StringBuffer buffer = new StringBuffer(message.length() + 4 * 8);
-
-        while (matcher.find()) {
-            String hexColor = matcher.group(1);
-            String replacement = net.md_5.bungee.api.ChatColor.of("#" + hexColor).toString();
-            matcher.appendReplacement(buffer, Matcher.quoteReplacement(replacement));
-        }
-
-        matcher.appendTail(buffer);
-
-        // Convert standard ampersand color codes (&a, &b, etc.)
-        return ChatColor.translateAlternateColorCodes('&', buffer.toString());
+        return translate(message, true);
     }
 
     /**
@@ -97,6 +82,87 @@ public final class ColorUtil {
         return ChatColor.stripColor(message);
     }
 
+    /**
+     * Strips every kind of color code from a message.
+     * <p>
+     * Unlike {@link #stripColors(String)}, this also removes untranslated codes:
+     * <ul>
+     *   <li>Section codes (§a, §l, and the §x§R§R§G§G§B§B hex form)</li>
+     *   <li>Hex codes (&amp;#RRGGBB)</li>
+     *   <li>Ampersand codes (&amp;a, &amp;l, etc.)</li>
+     * </ul>
+     * The kinds are removed one after another in this order, so removing a section
+     * code can expose an ampersand code: {@code "&§aa"} becomes empty. Each pass
+     * scans the message once and returns it unchanged if it has no such codes.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * String plain = ColorUtil.stripAllColorCodes("&#FF5733Hello §aWorld &lnow");
+     * // Result: "Hello World now"
+     * }</pre>
+     *
+     * @param message The message with color codes
+     * @return The message without any color codes, or null if input is null
+     */
+    public static String stripAllColorCodes(String message) {
+        if (message == null) {
+            return null;
+        }
+        String result = stripCodes(message, ChatColor.COLOR_CHAR, false);
+        result = stripCodes(result, '&', true);
+        return stripCodes(result, '&', false);
+    }
+
+    /**
+     * Removes one kind of color code from a message.
+     *
+     * @param message The message
+     * @param prefix  The character starting the codes
+     * @param hex     Whether to remove hex codes ({@code prefix#RRGGBB}) instead of
+     *                legacy codes ({@code prefix} followed by a color or format character)
+     * @return The message without such codes, or {@code message} itself if it has none
+     */
+    private static String stripCodes(String message, char prefix, boolean hex) {
+        int start = message.indexOf(prefix);
+        if (start < 0) {
+            return message;
+        }
+
+        int length = message.length();
+        StringBuilder builder = null;
+        int copied = 0;
+        for (int i = start; i < length - 1; i++) {
+            if (message.charAt(i) != prefix) {
+                continue;
+            }
+
+            int end;
+            if (hex) {
+                if (message.charAt(i + 1) != '#' || !isHexColor(message, i + 2)) {
+                    continue;
+                }
+                end = i + 8;
+            } else {
+                if (LEGACY_CODES.indexOf(message.charAt(i + 1)) < 0) {
+                    continue;
+                }
+                end = i + 2;
+            }
+
+            if (builder == null) {
+                builder = new StringBuilder(length);
+            }
+            builder.append(message, copied, i);
+            copied = end;
+            i = end - 1;
+        }
+
+        if (builder == null) {
+            return message;
+        }
+        return builder.append(message, copied, length).toString();
+    }
+
     /**
      * Checks if a string contains any color codes.
      * <p>
@@ -115,7 +181,8 @@ public final class ColorUtil {
         if (message == null) {
             return false;
         }
-        return message.contains("§") || HEX_PATTERN.matcher(message).find() || message.contains("&");
+        // Every hex color code starts with an ampersand
+        return message.indexOf(ChatColor.COLOR_CHAR) >= 0 || message.indexOf('&') >= 0;
     }
 
     /**
@@ -136,18 +203,7 @@ public final class ColorUtil {
         if (message == null) {
             return null;
         }
-
-        Matcher matcher = HEX_PATTERN.matcher(message);
-        StringBuffer buffer = new StringBuffer(message.length() + 4 * 8);
-
-        while (matcher.find()) {
-            String hexColor = matcher.group(1);
-            String replacement = net.md_5.bungee.api.ChatColor.of("#" + hexColor).toString();
-            matcher.appendReplacement(buffer, Matcher.quoteReplacement(replacement));
-        }
-
-        matcher.appendTail(buffer);
-        return buffer.toString();
+        return translate(message, false);
     }
 
     /**
@@ -170,4 +226,72 @@ public final class ColorUtil {
         }
         return ChatColor.translateAlternateColorCodes('&', message);
     }
+
+    /**
+     * Translates hex color codes, and optionally legacy codes, in one scan.
+     * <p>
+     * A hex code &amp;#RRGGBB becomes §x§R§R§G§G§B§B with the digits kept as
+     * written, and a legacy code becomes § followed by the lower-case code
+     * character. Text between codes is copied in runs. A message without any
+     * code is returned as is.
+     * </p>
+     *
+     * @param message The message to translate
+     * @param legacy  Whether to translate legacy codes as well
+     * @return The translated message
+     */
+    private static String translate(String message, boolean legacy) {
+        int index = message.indexOf('&');
+        if (index < 0) {
+            return message;
+        }
+
+        int length = message.length();
+        StringBuilder builder = null;
+        int copied = 0;
+        while (index >= 0 && index + 1 < length) {
+            char next = message.charAt(index + 1);
+            if (next == '#' && isHexColor(message, index + 2)) {
+                if (builder == null) {
+                    builder = new StringBuilder(length + 16);
+                }
+                builder.append(message, copied, index).append(ChatColor.COLOR_CHAR).append('x');
+                for (int i = index + 2; i < index + 8; i++) {
+                    builder.append(ChatColor.COLOR_CHAR).append(message.charAt(i));
+                }
+                copied = index + 8;
+                index = message.indexOf('&', copied);
+            } else if (legacy && LEGACY_CODES.indexOf(next) >= 0) {
+                if (builder == null) {
+                    builder = new StringBuilder(length);
+                }
+                builder.append(message, copied, index).append(ChatColor.COLOR_CHAR).append(Character.toLowerCase(next));
+                copied = index + 2;
+                index = message.indexOf('&', copied);
+            } else {
+                index = message.indexOf('&', index + 1);
+            }
+        }
+
+        if (builder == null) {
+            return message;
+        }
+        return builder.append(message, copied, length).toString();
+    }
+
+    /**
+     * Checks whether six hex digits start at the given position.
+     */
+    private static boolean isHexColor(String message, int start) {
+        if (start + 6 > message.length()) {
+            return false;
+        }
+        for (int i = start; i < start + 6; i++) {
+            char c = message.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F')) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
\ No newline at end of file
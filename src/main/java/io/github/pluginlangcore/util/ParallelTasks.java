@@ -0,0 +1,138 @@
+package io.github.pluginlangcore.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility class for fanning independent file tasks out over a bounded thread pool.
+ * <p>
+ * Used to read, parse and update language files of several locales and file types
+ * at the same time. Each call uses its own short-lived pool of daemon threads, sized
+ * by the number of tasks and capped by {@link #MAX_THREADS}. The call waits for all
+ * tasks to finish before it returns, so callers see the same ordering guarantees as
+ * a sequential loop.
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * List<Callable<YamlConfiguration>> tasks = new ArrayList<>();
+ * for (File file : files) {
+ *     tasks.add(() -> YamlConfiguration.loadConfiguration(file));
+ * }
+ * List<YamlConfiguration> configs = ParallelTasks.invokeAll(tasks);
+ * }</pre>
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ParallelTasks {
+
+    /**
+     * Upper bound of threads used by one call. File tasks are I/O bound, so a few
+     * threads more than the core count still pay off, but not without limit.
+     */
+    public static final int MAX_THREADS = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors() * 2));
+
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    /**
+     * Private constructor to prevent instantiation.
+     * This is a utility class with only static methods.
+     */
+    private ParallelTasks() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Runs tasks in parallel and waits for all of them.
+     * <p>
+     * A single task runs directly on the calling thread.
+     * </p>
+     *
+     * @param tasks The tasks to run
+     * @param <T>   The result type
+     * @return The results, in the order of the tasks
+     * @throws CompletionException if a task throws; the cause is the task's exception
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        if (tasks.size() <= 1) {
+            for (Callable<T> task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), MAX_THREADS), threadFactory());
+        try {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<T> future : futures) {
+                results.add(join(future));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs tasks in parallel and waits for all of them.
+     *
+     * @param tasks The tasks to run
+     * @throws CompletionException if a task throws; the cause is the task's exception
+     */
+    public static void runAll(List<? extends Runnable> tasks) {
+        List<Callable<Void>> callables = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            callables.add(() -> {
+                task.run();
+                return null;
+            });
+        }
+        invokeAll(callables);
+    }
+
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for parallel tasks");
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        int pool = POOL_COUNTER.incrementAndGet();
+        AtomicInteger threadCounter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "PluginLangCore-loader-" + pool + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
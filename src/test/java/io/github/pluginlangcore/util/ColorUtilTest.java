@@ -0,0 +1,120 @@
+package io.github.pluginlangcore.util;
+
+import org.bukkit.ChatColor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks that {@link ColorUtil} produces exactly the output of its former regular
+ * expression implementation, kept here as {@link RegexColorUtil}.
+ *
+ * @author PluginLangCore Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class ColorUtilTest {
+
+    //---------------------------------------------------
+    //             Reference Implementation
+    //---------------------------------------------------
+
+    /**
+     * The regular expression implementation ColorUtil and MessageService used before
+     * the single-scan translation.
+     */
+    private static final class RegexColorUtil {
+        private static final Pattern HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
+        private static final Pattern COLOR_CODES = Pattern.compile("§[0-9a-fA-FxX]|§[0-9a-fA-F][0-9a-fA-F][0-9a-fA-F][0-9a-fA-F][0-9a-fA-F][0-9a-fA-F]|§[klmnorKLMNOR]");
+        private static final Pattern HEX_CODES = Pattern.compile("&#[0-9a-fA-F]{6}");
+        private static final Pattern AMPERSAND_CODES = Pattern.compile("&[0-9a-fA-FxXklmnorKLMNOR]");
+
+        static String translateHexColorCodes(String message) {
+            return ChatColor.translateAlternateColorCodes('&', translateHexOnly(message));
+        }
+
+        static String translateHexOnly(String message) {
+            Matcher matcher = HEX_PATTERN.matcher(message);
+            StringBuffer buffer = new StringBuffer(message.length() + 4 * 8);
+            while (matcher.find()) {
+                String replacement = net.md_5.bungee.api.ChatColor.of("#" + matcher.group(1)).toString();
+                matcher.appendReplacement(buffer, Matcher.quoteReplacement(replacement));
+            }
+            matcher.appendTail(buffer);
+            return buffer.toString();
+        }
+
+        static boolean hasColors(String message) {
+            return message.contains("§") || HEX_PATTERN.matcher(message).find() || message.contains("&");
+        }
+
+        static String stripAllColorCodes(String message) {
+            String result = COLOR_CODES.matcher(message).replaceAll("");
+            result = HEX_CODES.matcher(result).replaceAll("");
+            return AMPERSAND_CODES.matcher(result).replaceAll("");
+        }
+    }
+
+    //---------------------------------------------------
+    //                     Tests
+    //---------------------------------------------------
+
+    static List<String> edgeCases() {
+        return List.of(
+                "", "plain text", "&", "§", "#", "text&", "text§", "&#", "&#FF573",
+                "&a", "&A", "&l", "&L", "&r", "&R", "&x", "&X", "&z", "&Z", "&&a", "&&&l", "& a",
+                "&#FF5733", "&#ff5733", "&#aBcDeF", "&#12345", "&#12345G", "&#GGGGGG", "&#1234567",
+                "&&#abcdef", "&#&#abcdef", "&#FF5733Hello &aWorld", "Hello &#FF5733&lWorld&r!",
+                "&x&F&F&5&7&3&3Hex", "§aGreen §bBlue", "§x§F§F§5§7§3§3Hex", "§z§", "&§aa", "§&aa",
+                "&#§a123456", "&#12§a3456", "&#١٢٣٤٥٦", "&#ＦＦ5733", "&٠", "{player}&7: &f{message}");
+    }
+
+    @ParameterizedTest
+    @MethodSource("edgeCases")
+    void matchesRegexImplementationOnEdgeCases(String message) {
+        assertSameAsRegex(message);
+    }
+
+    @Test
+    void matchesRegexImplementationOnRandomInput() {
+        String[] tokens = {"&", "§", "#", "a", "A", "f", "F", "g", "G", "l", "r", "x", "X", "z", "0", "9",
+                "&#FF5733", "&#abc123", "§x", "&x", " ", "{p}", "٠", "Ｆ"};
+        Random random = new Random(20240611L);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int count = random.nextInt(16);
+            for (int j = 0; j < count; j++) {
+                builder.append(tokens[random.nextInt(tokens.length)]);
+            }
+            assertSameAsRegex(builder.toString());
+        }
+    }
+
+    @Test
+    void handlesNull() {
+        assertNull(ColorUtil.translateHexColorCodes(null));
+        assertNull(ColorUtil.translateHexOnly(null));
+        assertNull(ColorUtil.stripAllColorCodes(null));
+        assertFalse(ColorUtil.hasColors(null));
+    }
+
+    private static void assertSameAsRegex(String message) {
+        assertEquals(RegexColorUtil.translateHexColorCodes(message), ColorUtil.translateHexColorCodes(message),
+                () -> "translateHexColorCodes(\"" + message + "\")");
+        assertEquals(RegexColorUtil.translateHexOnly(message), ColorUtil.translateHexOnly(message),
+                () -> "translateHexOnly(\"" + message + "\")");
+        assertEquals(RegexColorUtil.hasColors(message), ColorUtil.hasColors(message),
+                () -> "hasColors(\"" + message + "\")");
+        assertEquals(RegexColorUtil.stripAllColorCodes(message), ColorUtil.stripAllColorCodes(message),
+                () -> "stripAllColorCodes(\"" + message + "\")");
+    }
+}